@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import akka.actor.ActorRef;
 import com.fasterxml.jackson.databind.introspect.TypeResolutionContext;
 import commands.BasicCommands;
+import commands.CommandBatch;
 import events.TileClicked;
 import structures.GameState;
 import structures.basic.*;
@@ -35,6 +36,17 @@ public class PerformAction {
 	 * @return 
 	 */
 	public static boolean attackUnit(int mode, Player player, ActorRef out, Unit unit, Tile startTile, Tile enemyTile , GameState gameState) {
+		
+		// The animations and stat updates of a move and attack are sent to the front-end as one batch
+		CommandBatch.begin(out);
+		try {
+			return attackUnitInBatch(mode, player, out, unit, startTile, enemyTile, gameState);
+		} finally {
+			CommandBatch.end();
+		}
+	}
+	
+	private static boolean attackUnitInBatch(int mode, Player player, ActorRef out, Unit unit, Tile startTile, Tile enemyTile , GameState gameState) {
 		// TODO Auto-generated method stub
 		
 		
@@ -67,37 +79,33 @@ public class PerformAction {
 						// Enemytile is not in range for direct attack, have to move and then attack
 
 						if (unit.getName().equals("WindShrike")){
-							tilesList= gameState.board.getTilesWithUnits(out, gameState.board.getTiles(), TileClicked.opposingPlayer(gameState,player));
+							tilesList= gameState.board.getTilesWithUnits(TileClicked.opposingPlayer(gameState,player));
 						}
-						else {tilesList=gameState.board.highlightTilesMoveAndAttack(0,player,out, startTile,gameState);}
+						else {tilesList=gameState.board.getMoveAndAttackTiles(startTile);}
 						
 						if(tilesList.contains(enemyTile)) // have to move,then attack
 						{
-							tilesList= new ArrayList<>();
-							if (unit.getName().equals("WindShrike")){
-								tilesList=gameState.board.getTilesWithoutUnits(out, gameState.board.getTiles(),player);
-							}
-
-							else {tilesList=gameState.board.getAdjacentTiles(out, startTile);} // Get the adjacent tiles to just move
-							
-							// Get the attackable tiles of the enemy tile and check whether any of those tiles comes inside the adjacenttiles of the start tile
-							ArrayList<Tile> enemyAdjacentTiles=gameState.board.retrieveAdjacentTilesToAttackPosition(out, enemyTile);
+							Tile tileToMove = null;
 
+							if (unit.getName().equals("WindShrike")){
+								tilesList=gameState.board.getTilesWithoutUnits();
 
-	
-							Tile tileToMove = null;
-							
-							
-							for(int i=0;i<tilesList.size();i++)
-							{
-								
-								// If any vacant tile is in the list of tilesTomove list of startTile, return that tile
-								if(enemyAdjacentTiles.contains(tilesList.get(i)) && tilesList.get(i).getUnitFromTile()==null )
+								// Get the attackable tiles of the enemy tile and check whether any of those tiles is vacant
+								ArrayList<Tile> enemyAdjacentTiles=gameState.board.retrieveAdjacentTilesToAttackPosition(enemyTile);
+								for(int i=0;i<tilesList.size();i++)
 								{
-									tileToMove=tilesList.get(i);
-									break;
+									if(enemyAdjacentTiles.contains(tilesList.get(i)) && tilesList.get(i).getUnitFromTile()==null )
+									{
+										tileToMove=tilesList.get(i);
+										break;
+									}
 								}
 							}
+							else {
+								// The first tile the unit can reach (with nothing in the way) next to the enemy
+								int cell=gameState.board.getReachability().getMoveToAttack(gameState.board.cellIndex(startTile), gameState.board.cellIndex(enemyTile));
+								if(cell>=0) tileToMove=gameState.board.tileAt(cell);
+							}
 
 	
 			                if(tileToMove!=null)
@@ -333,7 +341,7 @@ public class PerformAction {
 
 
 		// Check if the unit can move to the end tile
-		if(!gameState.board.getAdjacentTiles(out, startTile).contains(endTile)) {
+		if(!gameState.board.isReachable(startTile, endTile)) {
 			if(mode==1)
 			{
 				BasicCommands.addPlayer1Notification(out, "Unit cannot move to the end tile", 2);
@@ -414,21 +422,8 @@ public class PerformAction {
 	
 	
 	public static ArrayList<Tile> getSummonableTiles(ActorRef out, GameState gameState, Player player) {  // method used to retreives a list of the summonable tiles
-		gameState.SummonTileList=null;
-        if(gameState.SummonTileList==null){
-            gameState.SummonTileList= new ArrayList<Tile>();
-            // list of the tiles with units
-            ArrayList<Tile> list = gameState.board.getTilesWithUnits(out, gameState.board.getTiles(), player);
-
-            // iteration through the list and highlight adjacent tiles
-            for (Tile items: list) {
-                ArrayList<Tile> listItem=gameState.board.summonableTiles(out, items);
-                for (Tile tile : listItem) {
-                    gameState.SummonTileList.add(tile);
-                }
-
-            }
-        }
+        // the board keeps each player's summon zone up to date, so it only needs turning into tiles
+        gameState.SummonTileList = gameState.board.getSummonZoneTiles(player);
         return gameState.SummonTileList;
 
     }
@@ -0,0 +1,37 @@
+package actors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import akka.actor.AbstractActor;
+import akka.actor.Props;
+
+/**
+ * The 'out' ActorRef given to the GameActor. Everything told to it is put in the connection's
+ * OutboundBuffer, which feeds the websocket. When this actor stops the stream is completed
+ * once the waiting messages have gone out.
+ *
+ */
+public class OutboundActor extends AbstractActor {
+
+	private final OutboundBuffer buffer;
+
+	public OutboundActor(OutboundBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	public static Props props(OutboundBuffer buffer) {
+		return Props.create(OutboundActor.class, buffer);
+	}
+
+	public Receive createReceive() {
+		return receiveBuilder()
+				.match(JsonNode.class, message -> buffer.add(message))
+				.build();
+	}
+
+	@Override
+	public void postStop() throws Exception {
+		buffer.complete();
+	}
+
+}
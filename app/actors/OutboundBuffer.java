@@ -0,0 +1,205 @@
+package actors;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import akka.stream.BufferOverflowException;
+import akka.stream.QueueOfferResult;
+import akka.stream.javadsl.SourceQueueWithComplete;
+
+/**
+ * Holds the messages waiting to go out on a websocket. The websocket's outbound stream is a
+ * Source.queue with a backpressure strategy, and this buffer only offers it one message at a
+ * time, the next is offered once the stream has taken the last one. So when the browser is slow
+ * to read, messages build up here instead of being dropped.
+ *
+ * The buffer is bounded (AppConstants.outboundBufferSize). Messages that only set the latest
+ * state of something are merged with the one already waiting, so they do not use up space:
+ *
+ * - drawTile for the same tile, only the last mode is sent
+ * - setUnitHealth / setUnitAttack for the same unit, only the last value is sent
+ *
+ * The merged message takes the place of the newest one so it is sent after the commands that came
+ * before it. If the buffer fills up with messages that cannot be merged the stream is failed,
+ * which closes the websocket, rather than silently losing commands.
+ *
+ * Each buffer reports to an OutboundMetrics (OutboundMetrics.shared() unless one is given), where
+ * the figures of all the websockets can be read.
+ *
+ */
+public class OutboundBuffer {
+
+	private final SourceQueueWithComplete<JsonNode> queue;
+	private final int capacity;
+	private final OutboundMetrics metrics;
+
+	private final LinkedHashMap<Object,JsonNode> pending = new LinkedHashMap<Object,JsonNode>();
+	private long nextKey = 0; // key for messages that are never merged
+	private boolean offerInFlight = false;
+	private boolean closed = false;
+
+	// metrics
+	private int peakOccupancy = 0;
+	private long sent = 0;
+	private long merged = 0;
+
+	public OutboundBuffer(SourceQueueWithComplete<JsonNode> queue, int capacity) {
+		this(queue, capacity, OutboundMetrics.shared());
+	}
+
+	public OutboundBuffer(SourceQueueWithComplete<JsonNode> queue, int capacity, OutboundMetrics metrics) {
+		this.queue = queue;
+		this.capacity = capacity;
+		this.metrics = metrics;
+		metrics.opened(this);
+
+		// the browser went away or the stream failed, nothing more can be sent
+		CompletionStage<?> completion = queue.watchCompletion();
+		if (completion!=null) completion.whenComplete((done, error) -> close());
+	}
+
+	/**
+	 * Adds a message to be sent, merging it with a waiting message if it replaces it
+	 * @param message
+	 */
+	public synchronized void add(JsonNode message) {
+		if (closed) return;
+
+		Object key = mergeKey(message);
+		if (key==null) key = nextKey++;
+		else if (pending.remove(key)!=null) {
+			merged++;
+			metrics.merged();
+		}
+
+		if (pending.size()>=capacity) {
+			closed = true;
+			pending.clear();
+			metrics.overflowed();
+			metrics.closed(this);
+			queue.fail(new BufferOverflowException("Outbound buffer of "+capacity+" messages is full"));
+			return;
+		}
+
+		pending.put(key, message);
+		if (pending.size()>peakOccupancy) peakOccupancy = pending.size();
+		metrics.occupancy(pending.size());
+
+		offerNext();
+	}
+
+	/**
+	 * Completes the stream once the messages already waiting have been sent
+	 */
+	public synchronized void complete() {
+		if (closed) return;
+		closed = true;
+		if (!offerInFlight && pending.isEmpty()) completeQueue();
+	}
+
+	private synchronized void close() {
+		closed = true;
+		pending.clear();
+		metrics.closed(this);
+	}
+
+	private void completeQueue() {
+		metrics.closed(this);
+		queue.complete();
+	}
+
+	// offers the oldest waiting message, if the stream is not still busy with the last one
+	private void offerNext() {
+		if (offerInFlight || pending.isEmpty()) return;
+
+		Iterator<JsonNode> it = pending.values().iterator();
+		JsonNode message = it.next();
+		it.remove();
+
+		offerInFlight = true;
+		queue.offer(message).whenComplete((result, error) -> offered(result, error));
+	}
+
+	private synchronized void offered(QueueOfferResult result, Throwable error) {
+		offerInFlight = false;
+		if (error!=null || !QueueOfferResult.enqueued().equals(result)) {
+			close(); // the stream is closed or failed
+			return;
+		}
+		sent++;
+		metrics.sent();
+
+		if (!pending.isEmpty()) offerNext();
+		else if (closed) completeQueue(); // complete() was called while this one was in flight
+	}
+
+	/**
+	 * Returns the key that a message is merged on, or null if it is never merged.
+	 * Works on both the full and compact forms of the messages (see CompactProtocol)
+	 * @param message
+	 * @return
+	 */
+	static Object mergeKey(JsonNode message) {
+		JsonNode type = message.has("messagetype") ? message.get("messagetype") : message.path("m");
+		switch (type.asText()) {
+		case "drawTile":
+			return "drawTile:"+message.path("tile").path("tilex").asInt()+","+message.path("tile").path("tiley").asInt();
+		case "dt":
+			return "drawTile:"+message.path("t").path(0).asInt()+","+message.path("t").path(1).asInt();
+		case "setUnitHealth":
+			return "setUnitHealth:"+message.path("unit").path("id").asInt();
+		case "uh":
+			return "setUnitHealth:"+message.path("u").asInt();
+		case "setUnitAttack":
+			return "setUnitAttack:"+message.path("unit").path("id").asInt();
+		case "ua":
+			return "setUnitAttack:"+message.path("u").asInt();
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Number of messages waiting to be sent
+	 * @return
+	 */
+	public synchronized int getOccupancy() {
+		return pending.size();
+	}
+
+	/**
+	 * The most messages that have been waiting at once
+	 * @return
+	 */
+	public synchronized int getPeakOccupancy() {
+		return peakOccupancy;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Number of messages the stream has taken
+	 * @return
+	 */
+	public synchronized long getSent() {
+		return sent;
+	}
+
+	/**
+	 * Number of messages that were replaced by a later one before being sent
+	 * @return
+	 */
+	public synchronized long getMerged() {
+		return merged;
+	}
+
+	public synchronized boolean isClosed() {
+		return closed;
+	}
+}
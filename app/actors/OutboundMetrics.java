@@ -0,0 +1,108 @@
+package actors;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The figures of every websocket's OutboundBuffer together, so they can be read without a
+ * reference to any one connection. Each buffer registers itself here when it is made and leaves
+ * when its stream is completed, failed or closed by the browser, so the open buffers can be
+ * looked at as they are now, and the totals count every connection since the server started.
+ *
+ */
+public class OutboundMetrics {
+
+	private static final OutboundMetrics shared = new OutboundMetrics();
+
+	private final Set<OutboundBuffer> open = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger peakOccupancy = new AtomicInteger();
+	private final AtomicLong sent = new AtomicLong();
+	private final AtomicLong merged = new AtomicLong();
+	private final AtomicLong overflows = new AtomicLong();
+
+	/**
+	 * The metrics the websockets' buffers report to
+	 * @return
+	 */
+	public static OutboundMetrics shared() {
+		return shared;
+	}
+
+	void opened(OutboundBuffer buffer) {
+		open.add(buffer);
+	}
+
+	void closed(OutboundBuffer buffer) {
+		open.remove(buffer);
+	}
+
+	void occupancy(int occupancy) {
+		peakOccupancy.accumulateAndGet(occupancy, Math::max);
+	}
+
+	void sent() {
+		sent.incrementAndGet();
+	}
+
+	void merged() {
+		merged.incrementAndGet();
+	}
+
+	void overflowed() {
+		overflows.incrementAndGet();
+	}
+
+	/**
+	 * Number of websockets whose buffer is still open
+	 * @return
+	 */
+	public int getOpenBuffers() {
+		return open.size();
+	}
+
+	/**
+	 * Number of messages waiting to be sent, over all the open buffers
+	 * @return
+	 */
+	public int getOccupancy() {
+		int occupancy = 0;
+		for (OutboundBuffer buffer : open) occupancy += buffer.getOccupancy();
+		return occupancy;
+	}
+
+	/**
+	 * The most messages waiting in any one open buffer right now
+	 * @return
+	 */
+	public int getLargestOccupancy() {
+		int largest = 0;
+		for (OutboundBuffer buffer : open) largest = Math.max(largest, buffer.getOccupancy());
+		return largest;
+	}
+
+	/**
+	 * The most messages that have been waiting at once in any one buffer
+	 * @return
+	 */
+	public int getPeakOccupancy() {
+		return peakOccupancy.get();
+	}
+
+	public long getSent() {
+		return sent.get();
+	}
+
+	public long getMerged() {
+		return merged.get();
+	}
+
+	/**
+	 * Number of websockets closed because their buffer filled up
+	 * @return
+	 */
+	public long getOverflows() {
+		return overflows.get();
+	}
+}
@@ -0,0 +1,95 @@
+package ai;
+
+/**
+ * One step of a turn as the AI search sees it: summon a card from a hand position on a cell,
+ * move a unit from one cell to another, attack the unit on a cell, or end the turn. ComputerPlayer
+ * turns each one into the same message it sends for its own summons, moves and attacks.
+ *
+ */
+public final class Action {
+
+    public static final int SUMMON = 0;
+    public static final int MOVE = 1;
+    public static final int ATTACK = 2;
+    public static final int END_TURN = 3;
+
+    public static final Action endTurn = new Action(END_TURN, -1, -1, -1);
+
+    private final int type;
+    private final int from; // the hand position (from 0) for SUMMON, the unit's cell otherwise
+    private final int to; // the cell summoned on, moved to or attacked
+    private final int card; // the id of the card summoned, -1 for the other actions
+
+    private Action(int type, int from, int to, int card) {
+        this.type = type;
+        this.from = from;
+        this.to = to;
+        this.card = card;
+    }
+
+    public static Action summon(int handIndex, int cardID, int cell) {
+        return new Action(SUMMON, handIndex, cell, cardID);
+    }
+
+    public static Action move(int from, int to) {
+        return new Action(MOVE, from, to, -1);
+    }
+
+    public static Action attack(int from, int target) {
+        return new Action(ATTACK, from, target, -1);
+    }
+
+    public int getType() {
+        return type;
+    }
+
+    /**
+     * The hand position (from 0) of the card for a summon, the cell of the unit for a move or attack
+     *
+     * @return
+     */
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * The cell summoned on, moved to or attacked
+     *
+     * @return
+     */
+    public int getTo() {
+        return to;
+    }
+
+    /**
+     * The id of the card a summon plays, -1 for the other actions. The hand position only holds
+     * while the plan is played exactly, so the card is found in the hand by its id
+     *
+     * @return
+     */
+    public int getCard() {
+        return card;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof Action)) return false;
+        Action o = (Action) other;
+        return type == o.type && from == o.from && to == o.to && card == o.card;
+    }
+
+    @Override
+    public int hashCode() {
+        return ((type * 31 + from) * 4099 + to) * 31 + card;
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case SUMMON: return "summon card " + card + " (hand position " + from + ") on cell " + to;
+            case MOVE: return "move " + from + " to " + to;
+            case ATTACK: return "attack " + to + " from " + from;
+            default: return "end turn";
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package ai;
+
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import utils.AppConstants;
+
+/**
+ * Runs the AI's turns (see ComputerPlayer.startAIThread) on a fixed number of threads shared by
+ * every game, instead of a new thread for each turn. Turns that find every thread busy wait in
+ * a queue of at most queueLimit turns; past that submit throws a RejectedExecutionException, so
+ * a flood of games cannot pile up turns without end. A turn can be cancelled, which takes it out
+ * of the queue or interrupts it if it has started, for when its game's websocket closes.
+ *
+ * It counts the turns running, waiting, finished and turned away, and how long turns waited in
+ * the queue before a thread took them.
+ *
+ */
+public class AiExecutor {
+
+    private static final AiExecutor shared = new AiExecutor(AppConstants.aiTurnThreads, AppConstants.aiTurnQueueLimit);
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicInteger activeTurns = new AtomicInteger();
+    private final AtomicLong completedTurns = new AtomicLong();
+    private final AtomicLong rejectedTurns = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public AiExecutor(int threads, int queueLimit) {
+        AtomicInteger count = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(queueLimit), runnable -> {
+            Thread thread = new Thread(runnable, "ai-turn-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * The executor the games' AI turns run on
+     *
+     * @return
+     */
+    public static AiExecutor shared() {
+        return shared;
+    }
+
+    /**
+     * Queues a turn to run on the next free thread
+     *
+     * @param turn
+     * @return the turn, to cancel it with
+     * @throws RejectedExecutionException if queueLimit turns are already waiting
+     */
+    public FutureTask<Void> submit(Runnable turn) {
+        long submitted = System.nanoTime();
+        FutureTask<Void> task = new FutureTask<Void>(() -> {
+            long waited = System.nanoTime() - submitted;
+            totalWaitNanos.addAndGet(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+            activeTurns.incrementAndGet();
+            try {
+                turn.run();
+            } finally {
+                activeTurns.decrementAndGet();
+                completedTurns.incrementAndGet();
+            }
+        }, null);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            rejectedTurns.incrementAndGet();
+            throw e;
+        }
+        return task;
+    }
+
+    /**
+     * Stops a turn: it is taken out of the queue if it is still waiting, or interrupted if it is running
+     *
+     * @param task
+     */
+    public void cancel(FutureTask<Void> task) {
+        task.cancel(true);
+        executor.remove(task);
+    }
+
+    /**
+     * The number of turns being played right now
+     *
+     * @return
+     */
+    public int getActiveTurns() {
+        return activeTurns.get();
+    }
+
+    /**
+     * The number of turns waiting for a thread
+     *
+     * @return
+     */
+    public int getQueuedTurns() {
+        return executor.getQueue().size();
+    }
+
+    public long getCompletedTurns() {
+        return completedTurns.get();
+    }
+
+    /**
+     * The number of turns turned away because the queue was full
+     *
+     * @return
+     */
+    public long getRejectedTurns() {
+        return rejectedTurns.get();
+    }
+
+    /**
+     * How long the turns that have started waited in the queue, on average, in milliseconds
+     *
+     * @return
+     */
+    public double getAverageWaitMillis() {
+        long started = completedTurns.get() + activeTurns.get();
+        return started == 0 ? 0 : totalWaitNanos.get() / 1e6 / started;
+    }
+
+    /**
+     * The longest a turn has waited in the queue, in milliseconds
+     *
+     * @return
+     */
+    public double getMaxWaitMillis() {
+        return maxWaitNanos.get() / 1e6;
+    }
+}
@@ -0,0 +1,27 @@
+package ai;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * The ForkJoinPool the AI searches of every game share to search in parallel, with one thread
+ * for each processor. Its threads are daemon threads named "ai-search-N", so they never keep the
+ * server from stopping. A search never takes more of the pool than its own parallelism setting
+ * (AppConstants.aiMaxParallelism), so one game's turn cannot take all of it from the others.
+ *
+ */
+public final class AiPool {
+
+    private static final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("ai-search-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }, null, false);
+
+    private AiPool() {}
+
+    public static ForkJoinPool shared() {
+        return pool;
+    }
+}
@@ -0,0 +1,374 @@
+package ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import structures.GameSnapshot;
+
+/**
+ * Plans the AI's turn with a depth limited alpha-beta search over sequences of actions on a
+ * SearchState. Each action is one step of depth, and ending the turn hands the search over to the
+ * opponent, so a deep enough search sees the replies to the turn as well. The search deepens one
+ * step at a time (iterative deepening) and keeps the best line of the last depth it finished,
+ * so it can stop at any time. Actions are tried in the order most likely to be best, which lets
+ * alpha-beta cut more of the tree: attacks that kill first, then attacks on the avatar, then
+ * other attacks, then moves and summons next to an enemy, then other summons, then ending the
+ * turn, and other moves last. The actions are played and taken back on one state with make and
+ * unmake instead of copying it.
+ *
+ * If the best line stops before the end of the turn the search is run again from the end of it,
+ * each search getting half of the time left, until it ends the turn.
+ *
+ * With a parallelism above 1 the first action of the turn (the best looking one) is searched on
+ * its own, and the other first actions are then shared out between that many tasks on the AiPool,
+ * each searching its actions on its own copy of the state (young brothers wait). The tasks share
+ * the best value found so far, and only search each action for whether it can reach it, so they cut
+ * as much of the tree as the single threaded search does. An action that reaches the best value
+ * gets its exact value, so the best action is picked the same way as the single threaded search
+ * picks it (the highest value, the first in order if two are equal), and both give the same plan.
+ *
+ * The search stops at maxDepth or after maxMillis milliseconds (0 for no time limit), or when the
+ * time given to planTurn is up. It also stops, in every task, when the thread planning is
+ * interrupted, as it is when the AI's turn is cancelled.
+ *
+ */
+public class AlphaBetaEngine implements TurnPlanner {
+
+    private static final int INFINITY = 1000000;
+    // the most actions one turn of the plan can have, in case the searches never end it
+    private static final int MAX_PLAN = 40;
+
+    private final int maxDepth;
+    private final long maxMillis;
+    private final int parallelism;
+    // one for each task searching in parallel, the first also searches on its own
+    private final Searcher[] searchers;
+    // the time in nanoseconds, only changed by tests
+    private LongSupplier clock = System::nanoTime;
+    // the thread in planTurn, the tasks stop when it is interrupted
+    private Thread planningThread;
+
+    private long nodes;
+    private long lastNodes;
+    private int lastDepth;
+    private long lastElapsedNanos;
+
+    public AlphaBetaEngine(int maxDepth, long maxMillis) {
+        this(maxDepth, maxMillis, 1);
+    }
+
+    public AlphaBetaEngine(int maxDepth, long maxMillis, int parallelism) {
+        if (maxDepth <= 0) throw new IllegalArgumentException("AlphaBetaEngine needs a depth of at least 1");
+        this.maxDepth = maxDepth;
+        this.maxMillis = maxMillis;
+        this.parallelism = Math.max(1, parallelism);
+        this.searchers = new Searcher[this.parallelism];
+        for (int i = 0; i < searchers.length; i++) searchers[i] = new Searcher();
+    }
+
+    /**
+     * Sets the clock the search times itself with, in nanoseconds
+     *
+     * @param clock
+     */
+    public void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public List<Action> planTurn(GameSnapshot snapshot) {
+        return plan(snapshot, maxMillis > 0 ? maxMillis * 1000000L : Long.MAX_VALUE);
+    }
+
+    /**
+     * Searches until the time is up (or to maxDepth, if that comes first). A search one action
+     * deep is always finished, so the plan is at least as good as the best single action
+     *
+     */
+    @Override
+    public List<Action> planTurn(GameSnapshot snapshot, long millis) {
+        return plan(snapshot, Math.max(0, millis) * 1000000L);
+    }
+
+    private List<Action> plan(GameSnapshot snapshot, long nanos) {
+        planningThread = Thread.currentThread();
+        long startTime = clock.getAsLong();
+        long end = nanos == Long.MAX_VALUE ? nanos : startTime + nanos;
+        SearchState state = new SearchState(snapshot);
+        int player = state.getTurnPlayer();
+        nodes = 0;
+        lastDepth = 0;
+
+        List<Action> plan = new ArrayList<>();
+        while (plan.size() < MAX_PLAN && !state.isOver()) {
+            long now = clock.getAsLong();
+            long deadline = end == Long.MAX_VALUE ? end : now + (end - now) / 2;
+            List<Action> line = search(state, deadline);
+            if (line.isEmpty()) break;
+
+            boolean turnEnded = false;
+            for (Action action : line) {
+                if (action.getType() == Action.END_TURN) {
+                    turnEnded = true;
+                    break;
+                }
+                plan.add(action);
+                state.apply(action);
+            }
+            if (turnEnded || state.getTurnPlayer() != player || clock.getAsLong() >= end || planningThread.isInterrupted()) break;
+        }
+
+        lastNodes = nodes;
+        lastElapsedNanos = clock.getAsLong() - startTime;
+        return plan;
+    }
+
+    // iterative deepening from the state, the best line of the deepest search that finished
+    private List<Action> search(SearchState state, long deadline) {
+        List<Action> best = new ArrayList<>();
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            List<Action> line = parallelism > 1 && depth > 1 ? searchInParallel(state, depth, deadline) : searchAlone(state, depth, deadline);
+            if (line == null) break; // out of time, or interrupted
+            best = line;
+            lastDepth = Math.max(lastDepth, depth);
+            if (clock.getAsLong() >= deadline || planningThread.isInterrupted()) break; // a small tree can finish a depth without looking at the time
+        }
+        return best;
+    }
+
+    private List<Action> searchAlone(SearchState state, int depth, long deadline) {
+        Searcher searcher = searchers[0];
+        searcher.start(state, depth, deadline);
+        searcher.alphaBeta(0, depth, -INFINITY, INFINITY);
+        nodes += searcher.nodes;
+        return searcher.outOfTime ? null : searcher.line(0);
+    }
+
+    // searches the first action, then shares the others out between the searchers, each on its own copy of the state
+    private List<Action> searchInParallel(SearchState state, int depth, long deadline) {
+        Searcher first = searchers[0];
+        first.start(state, depth, deadline);
+        List<Action> actions = new ArrayList<>();
+        state.legalActions(actions);
+        first.order(actions, 0);
+        if (actions.size() < 2) return searchAlone(state, depth, deadline);
+
+        int[] values = new int[actions.size()];
+        List<List<Action>> lines = new ArrayList<>();
+        for (int i = 0; i < actions.size(); i++) lines.add(null);
+
+        // the first action on its own, its value is the bound the others have to reach
+        values[0] = first.searchAction(actions.get(0), depth, -INFINITY);
+        nodes += first.nodes;
+        if (first.outOfTime) return null;
+        lines.set(0, first.line(0));
+        AtomicInteger bestValue = new AtomicInteger(values[0]);
+
+        int tasks = Math.min(parallelism, actions.size() - 1);
+        List<ForkJoinTask<?>> running = new ArrayList<>();
+        for (int task = 0; task < tasks; task++) {
+            Searcher searcher = searchers[task];
+            searcher.start(state.copy(), depth, deadline);
+            int firstAction = task + 1;
+            // every tasks-th action, so the best looking ones are spread between the tasks
+            running.add(AiPool.shared().submit(() -> {
+                for (int i = firstAction; i < actions.size() && !searcher.outOfTime; i += tasks) {
+                    // one below the best so far, so an action that equals it gets its exact value for the tie-break
+                    int bound = bestValue.get() - 1;
+                    int value = searcher.searchAction(actions.get(i), depth, bound);
+                    if (value > bound) {
+                        values[i] = value;
+                        lines.set(i, searcher.line(0));
+                        bestValue.accumulateAndGet(value, Math::max);
+                    } else {
+                        values[i] = -INFINITY; // below the best, whatever its exact value is
+                    }
+                }
+            }));
+        }
+
+        boolean outOfTime = false;
+        for (int task = 0; task < tasks; task++) {
+            running.get(task).join();
+            nodes += searchers[task].nodes;
+            outOfTime |= searchers[task].outOfTime;
+        }
+        if (outOfTime) return null;
+
+        // the bound only rises, so every action with the best value was searched exactly
+        int best = 0;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] > values[best]) best = i;
+        }
+        return lines.get(best);
+    }
+
+    /**
+     * The number of positions the last planTurn searched
+     *
+     * @return
+     */
+    public long getLastNodes() {
+        return lastNodes;
+    }
+
+    /**
+     * The deepest search the last planTurn finished
+     *
+     * @return
+     */
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    public long getLastElapsedNanos() {
+        return lastElapsedNanos;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    // one thread's search: the state it plays on and the tables it keeps between positions
+    private final class Searcher {
+        SearchState state;
+        long deadline;
+        boolean outOfTime;
+        long nodes;
+        // the actions tried at each depth, with their order scores, kept to save allocating them
+        final List<List<Action>> actionsByPly = new ArrayList<>();
+        int[][] scoresByPly = new int[0][];
+        // the best line found from each depth (the triangular table of principal variations)
+        Action[][] lines = new Action[0][];
+        int[] lineLengths = new int[0];
+
+        void start(SearchState state, int depth, long deadline) {
+            this.state = state;
+            this.deadline = deadline;
+            outOfTime = false;
+            nodes = 0;
+            int plies = depth + 1;
+            while (actionsByPly.size() < plies) actionsByPly.add(new ArrayList<>());
+            if (lines.length < plies) {
+                scoresByPly = java.util.Arrays.copyOf(scoresByPly, plies);
+                for (int i = 0; i < plies; i++) if (scoresByPly[i] == null) scoresByPly[i] = new int[64];
+                lines = new Action[plies][plies];
+                lineLengths = new int[plies];
+            }
+        }
+
+        List<Action> line(int ply) {
+            List<Action> line = new ArrayList<>();
+            for (int i = 0; i < lineLengths[ply]; i++) line.add(lines[ply][i]);
+            return line;
+        }
+
+        // the value of playing the action for the player whose turn it is, leaving its line in line(0).
+        // Only a value above alpha is exact, anything else only says the action does not beat alpha
+        int searchAction(Action action, int depth, int alpha) {
+            int player = state.getTurnPlayer();
+            state.make(action);
+            int value = state.getTurnPlayer() == player
+                    ? alphaBeta(1, depth - 1, alpha, INFINITY)
+                    : -alphaBeta(1, depth - 1, -INFINITY, -alpha);
+            state.unmake();
+            lines[0][0] = action;
+            System.arraycopy(lines[1], 0, lines[0], 1, lineLengths[1]);
+            lineLengths[0] = lineLengths[1] + 1;
+            return value;
+        }
+
+        // the value of the state for the player whose turn it is, searching depth actions ahead
+        int alphaBeta(int ply, int depth, int alpha, int beta) {
+            lineLengths[ply] = 0;
+            if (depth == 0 || state.isOver()) return state.evaluate(state.getTurnPlayer());
+            if ((++nodes & 255) == 0 && (clock.getAsLong() >= deadline || planningThread.isInterrupted())) outOfTime = true;
+            if (outOfTime) return 0;
+
+            List<Action> actions = actionsByPly.get(ply);
+            actions.clear();
+            state.legalActions(actions);
+            order(actions, ply);
+
+            int player = state.getTurnPlayer();
+            int best = -INFINITY;
+            for (Action action : actions) {
+                state.make(action);
+                int value = state.getTurnPlayer() == player
+                        ? alphaBeta(ply + 1, depth - 1, alpha, beta)
+                        : -alphaBeta(ply + 1, depth - 1, -beta, -alpha);
+                state.unmake();
+                if (outOfTime) return 0;
+
+                if (value > best) {
+                    best = value;
+                    lines[ply][0] = action;
+                    System.arraycopy(lines[ply + 1], 0, lines[ply], 1, lineLengths[ply + 1]);
+                    lineLengths[ply] = lineLengths[ply + 1] + 1;
+                }
+                if (best > alpha) alpha = best;
+                if (alpha >= beta) break;
+            }
+            return best;
+        }
+
+        // sorts the actions, best first
+        void order(List<Action> actions, int ply) {
+            int count = actions.size();
+            if (scoresByPly[ply].length < count) scoresByPly[ply] = new int[count * 2];
+            int[] scores = scoresByPly[ply];
+            for (int i = 0; i < count; i++) scores[i] = orderScore(actions.get(i));
+            // insertion sort, the lists are short and it keeps the legalActions order of equal scores
+            for (int i = 1; i < count; i++) {
+                Action action = actions.get(i);
+                int score = scores[i];
+                int j = i - 1;
+                while (j >= 0 && scores[j] < score) {
+                    scores[j + 1] = scores[j];
+                    actions.set(j + 1, actions.get(j));
+                    j--;
+                }
+                scores[j + 1] = score;
+                actions.set(j + 1, action);
+            }
+        }
+
+        // how promising an action looks before it is searched, higher is tried first
+        int orderScore(Action action) {
+            int from = action.getFrom();
+            int to = action.getTo();
+            switch (action.getType()) {
+                case Action.ATTACK: {
+                    int damage = state.attack[from];
+                    if (damage >= state.health[to]) return 5000 + (isAvatar(state.unitIds[to]) ? 1000 : 0) + state.attack[to] + state.health[to];
+                    if (isAvatar(state.unitIds[to])) return 4000 + damage;
+                    return 3000 + damage - state.attack[to];
+                }
+                case Action.MOVE:
+                    return nextToEnemy(to, state.owners[from], from) ? 2000 + state.attack[from] : 0;
+                case Action.SUMMON: {
+                    int card = state.hands[state.getTurnPlayer()][from];
+                    int value = state.cardAttacks[card] + state.cardHealths[card];
+                    return nextToEnemy(to, state.getTurnPlayer(), -1) ? 2000 + value : 1000 + value;
+                }
+                default:
+                    return 500;
+            }
+        }
+
+        // whether a unit of the player standing on the cell would be next to an enemy (not counting the cell it leaves)
+        boolean nextToEnemy(int cell, int player, int leaving) {
+            for (int next : state.geometry.getSummonCells(cell)) {
+                if (next != leaving && state.unitIds[next] >= 0 && state.owners[next] != player) return true;
+            }
+            return false;
+        }
+    }
+
+    private static boolean isAvatar(int id) {
+        return id == SearchState.PLAYER1_AVATAR || id == SearchState.PLAYER2_AVATAR;
+    }
+}
@@ -0,0 +1,213 @@
+package ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+import structures.GameSnapshot;
+
+/**
+ * Plans the AI's turn with Monte Carlo tree search on a SearchState. Each iteration walks down
+ * the tree picking actions by UCT, adds one new action, plays random actions from there until a
+ * few turns have ended (a playout), and adds how good the end position was for the player who
+ * picked each action to the nodes it went through. The tree goes on past the end of the turn into
+ * the opponent's replies, so the actions are judged by what the opponent can do to them. The
+ * turn returned follows the most visited actions from the root until the turn ends.
+ *
+ * The search stops after maxIterations playouts or maxMillis milliseconds, whichever comes first
+ * (0 for either means no limit, but not both), or when the time given to planTurn is up. It also
+ * stops when the thread planning is interrupted, as it is when the AI's turn is cancelled. A fixed
+ * seed gives the same plan for the same game when only the iterations are limited.
+ *
+ */
+public class MctsEngine implements TurnPlanner {
+
+    // the number of turns a playout plays before the position is scored
+    public static final int PLAYOUT_TURNS = 2;
+    // actions a side may play in one turn of a playout before it is made to end it
+    private static final int PLAYOUT_TURN_ACTIONS = 12;
+    private static final double EXPLORATION = 1.4;
+    // evaluate's difference in health that scores 0.73 rather than 0.5 in a playout
+    private static final double SCORE_SCALE = 10.0;
+
+    private final int maxIterations;
+    private final long maxMillis;
+    private final Random random;
+    // the time in nanoseconds, only changed by tests
+    private LongSupplier clock = System::nanoTime;
+
+    private long lastPlayouts;
+    private long lastElapsedNanos;
+
+    public MctsEngine(int maxIterations, long maxMillis, long seed) {
+        if (maxIterations <= 0 && maxMillis <= 0) throw new IllegalArgumentException("MctsEngine needs an iteration or time limit");
+        this.maxIterations = maxIterations;
+        this.maxMillis = maxMillis;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Sets the clock the search times itself with, in nanoseconds
+     *
+     * @param clock
+     */
+    public void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    // a position in the tree, reached by playing action from its parent's position
+    private static final class Node {
+        final Node parent;
+        final Action action;
+        final int player; // who played action, whose wins are counted in wins
+        List<Action> untried; // the legal actions not yet given a child, filled on the first visit
+        final List<Node> children = new ArrayList<>();
+        int visits;
+        double wins;
+
+        Node(Node parent, Action action, int player) {
+            this.parent = parent;
+            this.action = action;
+            this.player = player;
+        }
+
+        Node select() {
+            Node best = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            double logVisits = Math.log(visits);
+            for (Node child : children) {
+                double value = child.wins / child.visits + EXPLORATION * Math.sqrt(logVisits / child.visits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        Node mostVisited() {
+            Node best = null;
+            for (Node child : children) {
+                if (best == null || child.visits > best.visits) best = child;
+            }
+            return best;
+        }
+    }
+
+    @Override
+    public List<Action> planTurn(GameSnapshot snapshot) {
+        return search(snapshot, maxMillis > 0 ? maxMillis * 1000000L : Long.MAX_VALUE);
+    }
+
+    /**
+     * Searches until the time is up (or maxIterations playouts, if that comes first). There is
+     * always at least one playout, so the plan has at least one action unless the turn is best ended
+     *
+     */
+    @Override
+    public List<Action> planTurn(GameSnapshot snapshot, long millis) {
+        return search(snapshot, Math.max(0, millis) * 1000000L);
+    }
+
+    private List<Action> search(GameSnapshot snapshot, long nanos) {
+        SearchState start = new SearchState(snapshot);
+        int rootPlayer = start.getTurnPlayer();
+        Node root = new Node(null, null, SearchState.otherPlayer(rootPlayer));
+
+        long startTime = clock.getAsLong();
+        long deadline = nanos == Long.MAX_VALUE ? nanos : startTime + nanos;
+        long playouts = 0;
+        List<Action> actions = new ArrayList<>();
+        Thread thread = Thread.currentThread();
+        while ((maxIterations <= 0 || playouts < maxIterations)
+                && (playouts == 0 || (clock.getAsLong() < deadline && !thread.isInterrupted()))) {
+            SearchState state = start.copy();
+            Node node = root;
+
+            // down the tree while every action has been tried
+            while (node.untried != null && node.untried.isEmpty() && !node.children.isEmpty()) {
+                node = node.select();
+                state.apply(node.action);
+            }
+
+            // add one new action
+            if (node.untried == null) {
+                node.untried = new ArrayList<>();
+                state.legalActions(node.untried);
+            }
+            if (!node.untried.isEmpty()) {
+                Action action = node.untried.remove(random.nextInt(node.untried.size()));
+                int player = state.getTurnPlayer();
+                state.apply(action);
+                Node child = new Node(node, action, player);
+                node.children.add(child);
+                node = child;
+            }
+
+            playout(state, actions);
+            playouts++;
+
+            // count the result for the player of each action on the way back up
+            double score = score(state, 1);
+            for (; node != null; node = node.parent) {
+                node.visits++;
+                node.wins += node.player == 1 ? score : 1 - score;
+            }
+        }
+        lastPlayouts = playouts;
+        lastElapsedNanos = clock.getAsLong() - startTime;
+
+        // the most visited actions until the turn ends
+        List<Action> plan = new ArrayList<>();
+        for (Node node = root.mostVisited(); node != null && node.action.getType() != Action.END_TURN; node = node.mostVisited()) {
+            plan.add(node.action);
+        }
+        return plan;
+    }
+
+    // plays random actions until PLAYOUT_TURNS turns have ended or the game is over
+    private void playout(SearchState state, List<Action> actions) {
+        int turnsLeft = PLAYOUT_TURNS;
+        while (turnsLeft > 0 && !state.isOver()) {
+            if (state.getTurnActions() >= PLAYOUT_TURN_ACTIONS) {
+                state.apply(Action.endTurn);
+                turnsLeft--;
+                continue;
+            }
+            actions.clear();
+            state.legalActions(actions);
+            Action action = actions.get(random.nextInt(actions.size()));
+            state.apply(action);
+            if (action.getType() == Action.END_TURN) turnsLeft--;
+        }
+    }
+
+    // how good the position is for the player, from 0 to 1
+    private static double score(SearchState state, int player) {
+        if (state.isOver()) return state.getWinner() == player ? 1 : 0;
+        return 1 / (1 + Math.exp(-state.evaluate(player) / SCORE_SCALE));
+    }
+
+    /**
+     * The number of playouts the last planTurn made
+     *
+     * @return
+     */
+    public long getLastPlayouts() {
+        return lastPlayouts;
+    }
+
+    public long getLastElapsedNanos() {
+        return lastElapsedNanos;
+    }
+
+    /**
+     * How many playouts a second the last planTurn made
+     *
+     * @return
+     */
+    public double getPlayoutsPerSecond() {
+        return lastElapsedNanos == 0 ? 0 : lastPlayouts * 1e9 / lastElapsedNanos;
+    }
+}
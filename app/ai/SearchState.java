@@ -0,0 +1,572 @@
+package ai;
+
+import java.util.List;
+
+import structures.GameSnapshot;
+import structures.basic.BoardGeometry;
+import structures.basic.Zobrist;
+import utils.AppConstants;
+
+/**
+ * A copy of the game the AI search can play moves on, made from a GameSnapshot. The board is
+ * held as arrays by cell (the id, owner, health, attack and flags of the unit on it, id -1 if it
+ * is empty), so copying a state or playing an action only touches a few ints, and nothing is sent
+ * to the front-end.
+ *
+ * The rules are a simplified version of the game's: units are summoned next to a friendly unit
+ * for their card's mana cost, move as the Reachability of the real board allows, and attack an
+ * enemy next to them, which hits back if it survives. A unit that has attacked cannot move.
+ * Ending a turn draws a card and sets the mana as EndTurnClicked does. Spells and the units'
+ * special abilities are not played. The game is won when the other avatar dies.
+ *
+ * The Zobrist hash (see Zobrist) is kept up to date as actions are played, the same hash
+ * GameState.getZobristHash would give for the same position. The cells with a unit on them are
+ * also kept in a list, so finding the actions and scoring a position take time in the number of
+ * units rather than the size of the board.
+ *
+ */
+public final class SearchState {
+
+    public static final int PLAYER1_AVATAR = 40;
+    public static final int PLAYER2_AVATAR = 41;
+
+    // the indexes of the values kept in the scalars array
+    private static final int TURN = 0; // the player whose turn it is
+    private static final int PLAYER_TURNS = 1; // GameState.playerTurnNumber
+    private static final int COMP_TURNS = 2; // GameState.compTurnNumber
+    private static final int WINNER = 3; // 0 while the game goes on
+    private static final int TURN_ACTIONS = 4; // actions played since the turn started
+    private static final int OCCUPIED_COUNT = 5; // the number of cells in occupied
+
+    final int width;
+    final int height;
+    final int cellCount;
+    final BoardGeometry geometry;
+
+    // by card id, shared between copies as they never change
+    final int[] cardCosts;
+    final int[] cardAttacks;
+    final int[] cardHealths;
+    final boolean[] unitCards;
+    final int[][] decks; // by player id, the cards are drawn from deckPositions onwards
+
+    // the unit on each cell
+    final int[] unitIds;
+    final int[] owners;
+    final int[] health;
+    final int[] attack;
+    final int[] flags;
+
+    // the cells with a unit on them, in no order, the first scalars[OCCUPIED_COUNT] are used,
+    // and the position of each cell in it (-1 for an empty cell)
+    final int[] occupied;
+    final int[] occupiedIndex;
+
+    // by player id (1 and 2)
+    final int[] mana = new int[3];
+    final int[][] hands;
+    final int[] handSizes = new int[3];
+    final int[] deckPositions = new int[3];
+    final int[] scalars = new int[6];
+    long hash;
+
+    // the summon zone worked out by summonZone, kept to save allocating it at every position
+    private int[] zoneCells;
+    private boolean[] inZone;
+
+    // the undo journal of make and unmake: the array, index and old value of each write since the
+    // first make, and where each make started. It is only written while there is a make to undo
+    private int[][] undoArrays;
+    private int[] undoIndexes;
+    private int[] undoValues;
+    private int undoSize;
+    private int[] makeStarts;
+    private long[] makeHashes;
+    private int makeDepth;
+
+    /**
+     * Makes a state from a snapshot of the game
+     *
+     * @param snapshot
+     */
+    public SearchState(GameSnapshot snapshot) {
+        width = snapshot.getWidth();
+        height = snapshot.getHeight();
+        cellCount = width * height;
+        geometry = BoardGeometry.forSize(width, height);
+
+        int cards = snapshot.getCardCount();
+        cardCosts = new int[cards];
+        cardAttacks = new int[cards];
+        cardHealths = new int[cards];
+        unitCards = new boolean[cards];
+        for (int card = 0; card < cards; card++) {
+            cardCosts[card] = snapshot.getCardCost(card);
+            cardAttacks[card] = snapshot.getCardAttack(card);
+            cardHealths[card] = snapshot.getCardHealth(card);
+            unitCards[card] = snapshot.isUnitCard(card);
+        }
+
+        unitIds = new int[cellCount];
+        owners = new int[cellCount];
+        health = new int[cellCount];
+        attack = new int[cellCount];
+        flags = new int[cellCount];
+        occupied = new int[cellCount];
+        occupiedIndex = new int[cellCount];
+        java.util.Arrays.fill(unitIds, -1);
+        java.util.Arrays.fill(occupiedIndex, -1);
+        for (int unit = 0; unit < snapshot.getUnitCount(); unit++) {
+            int cell = snapshot.getUnitCell(unit);
+            occupied[unit] = cell;
+            occupiedIndex[cell] = unit;
+            unitIds[cell] = snapshot.getUnitId(unit);
+            owners[cell] = snapshot.getUnitOwner(unit);
+            health[cell] = snapshot.getUnitHealth(unit);
+            attack[cell] = snapshot.getUnitAttack(unit);
+            flags[cell] = snapshot.getUnitFlags(unit);
+        }
+
+        hands = new int[3][];
+        decks = new int[3][];
+        hands[0] = new int[0];
+        decks[0] = new int[0];
+        for (int player = 1; player <= 2; player++) {
+            int[] hand = snapshot.getHandCards(player);
+            hands[player] = java.util.Arrays.copyOf(hand, Math.max(hand.length, AppConstants.maxCardsInHand));
+            handSizes[player] = hand.length;
+            decks[player] = snapshot.getDeckCards(player);
+            mana[player] = snapshot.getPlayerMana(player);
+        }
+
+        scalars[TURN] = snapshot.getTurnPlayer();
+        scalars[PLAYER_TURNS] = snapshot.getPlayerTurnNumber();
+        scalars[COMP_TURNS] = snapshot.getCompTurnNumber();
+        scalars[OCCUPIED_COUNT] = snapshot.getUnitCount();
+        hash = computeHash();
+    }
+
+    // a copy of the other state
+    private SearchState(SearchState other) {
+        width = other.width;
+        height = other.height;
+        cellCount = other.cellCount;
+        geometry = other.geometry;
+        cardCosts = other.cardCosts;
+        cardAttacks = other.cardAttacks;
+        cardHealths = other.cardHealths;
+        unitCards = other.unitCards;
+        decks = other.decks;
+
+        unitIds = other.unitIds.clone();
+        owners = other.owners.clone();
+        health = other.health.clone();
+        attack = other.attack.clone();
+        flags = other.flags.clone();
+        occupied = other.occupied.clone();
+        occupiedIndex = other.occupiedIndex.clone();
+        System.arraycopy(other.mana, 0, mana, 0, 3);
+        hands = new int[3][];
+        for (int player = 0; player < 3; player++) hands[player] = other.hands[player].clone();
+        System.arraycopy(other.handSizes, 0, handSizes, 0, 3);
+        System.arraycopy(other.deckPositions, 0, deckPositions, 0, 3);
+        System.arraycopy(other.scalars, 0, scalars, 0, scalars.length);
+        hash = other.hash;
+    }
+
+    /**
+     * A copy of this state, to play actions on without changing this one
+     *
+     * @return
+     */
+    public SearchState copy() {
+        return new SearchState(this);
+    }
+
+    // every change to the state goes through here, so that make can be undone
+    private void write(int[] array, int index, int value) {
+        if (makeDepth > 0) {
+            if (undoSize == undoValues.length) {
+                undoArrays = java.util.Arrays.copyOf(undoArrays, undoSize * 2);
+                undoIndexes = java.util.Arrays.copyOf(undoIndexes, undoSize * 2);
+                undoValues = java.util.Arrays.copyOf(undoValues, undoSize * 2);
+            }
+            undoArrays[undoSize] = array;
+            undoIndexes[undoSize] = index;
+            undoValues[undoSize] = array[index];
+            undoSize++;
+        }
+        array[index] = value;
+    }
+
+    /**
+     * Plays an action like apply, but so that unmake can take it back. Searching with make and
+     * unmake changes one state in place instead of copying it for every action tried
+     *
+     * @param action
+     */
+    public void make(Action action) {
+        if (makeStarts == null) {
+            undoArrays = new int[256][];
+            undoIndexes = new int[256];
+            undoValues = new int[256];
+            makeStarts = new int[32];
+            makeHashes = new long[32];
+        } else if (makeDepth == makeStarts.length) {
+            makeStarts = java.util.Arrays.copyOf(makeStarts, makeDepth * 2);
+            makeHashes = java.util.Arrays.copyOf(makeHashes, makeDepth * 2);
+        }
+        makeStarts[makeDepth] = undoSize;
+        makeHashes[makeDepth] = hash;
+        makeDepth++;
+        apply(action);
+    }
+
+    /**
+     * Takes back the last action played with make
+     *
+     */
+    public void unmake() {
+        makeDepth--;
+        int start = makeStarts[makeDepth];
+        while (undoSize > start) {
+            undoSize--;
+            undoArrays[undoSize][undoIndexes[undoSize]] = undoValues[undoSize];
+            undoArrays[undoSize] = null;
+        }
+        hash = makeHashes[makeDepth];
+    }
+
+    public int getTurnPlayer() {
+        return scalars[TURN];
+    }
+
+    /**
+     * The player who has won, 0 while the game goes on
+     *
+     * @return
+     */
+    public int getWinner() {
+        return scalars[WINNER];
+    }
+
+    public boolean isOver() {
+        return scalars[WINNER] != 0;
+    }
+
+    /**
+     * The number of actions played since the turn started
+     *
+     * @return
+     */
+    public int getTurnActions() {
+        return scalars[TURN_ACTIONS];
+    }
+
+    public long getHash() {
+        return hash;
+    }
+
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    /**
+     * The number of units on the board
+     *
+     * @return
+     */
+    public int getUnitCount() {
+        return scalars[OCCUPIED_COUNT];
+    }
+
+    /**
+     * The id of the unit on the cell, -1 if it is empty
+     *
+     * @param cell
+     * @return
+     */
+    public int getUnitId(int cell) {
+        return unitIds[cell];
+    }
+
+    public int getOwner(int cell) {
+        return owners[cell];
+    }
+
+    public int getHealth(int cell) {
+        return health[cell];
+    }
+
+    public int getAttack(int cell) {
+        return attack[cell];
+    }
+
+    public int getMana(int player) {
+        return mana[player];
+    }
+
+    public int getHandSize(int player) {
+        return handSizes[player];
+    }
+
+    public int getHandCard(int player, int index) {
+        return hands[player][index];
+    }
+
+    public static int otherPlayer(int player) {
+        return player == 1 ? 2 : 1;
+    }
+
+    private boolean isEnemy(int player, int cell) {
+        return unitIds[cell] >= 0 && owners[cell] != player;
+    }
+
+    // whether the unit on the from cell can move to the to cell, one of its adjacent cells (see Reachability)
+    private boolean canMove(int player, int from, int to) {
+        if (unitIds[to] >= 0) return false;
+        int fromX = from / height, fromY = from % height;
+        int toX = to / height, toY = to % height;
+        int dx = toX - fromX, dy = toY - fromY;
+        if (Math.abs(dx) + Math.abs(dy) == 1) return true;
+        if (dx == 0 || dy == 0) return !isEnemy(player, (fromX + dx / 2) * height + fromY + dy / 2);
+        return !isEnemy(player, toX * height + fromY) || !isEnemy(player, fromX * height + toY);
+    }
+
+    /**
+     * Adds the actions the player whose turn it is can play to the list, ending the turn last.
+     * Nothing is added once the game is over
+     *
+     * @param actions
+     */
+    public void legalActions(List<Action> actions) {
+        if (isOver()) return;
+        int player = scalars[TURN];
+
+        // the empty cells next to the player's units, where cards can be summoned
+        int zoneSize = -1;
+        for (int i = 0; i < handSizes[player]; i++) {
+            int card = hands[player][i];
+            if (!unitCards[card] || cardCosts[card] > mana[player]) continue;
+            if (zoneSize < 0) zoneSize = summonZone(player);
+            for (int z = 0; z < zoneSize; z++) actions.add(Action.summon(i, card, zoneCells[z]));
+        }
+
+        for (int u = 0; u < scalars[OCCUPIED_COUNT]; u++) {
+            int cell = occupied[u];
+            if (owners[cell] != player) continue;
+            int unitFlags = flags[cell];
+            if ((unitFlags & (GameSnapshot.MOVED | GameSnapshot.ATTACKED)) == 0) {
+                for (int next : geometry.getAdjacentCells(cell)) {
+                    if (canMove(player, cell, next)) actions.add(Action.move(cell, next));
+                }
+            }
+            if ((unitFlags & GameSnapshot.ATTACKED) == 0) {
+                for (int next : geometry.getSummonCells(cell)) {
+                    if (isEnemy(player, next)) actions.add(Action.attack(cell, next));
+                }
+            }
+        }
+
+        actions.add(Action.endTurn);
+    }
+
+    // puts the empty cells next to the player's units in zoneCells, each once, and returns how many there are
+    private int summonZone(int player) {
+        if (zoneCells == null) {
+            zoneCells = new int[cellCount];
+            inZone = new boolean[cellCount];
+        }
+        int size = 0;
+        for (int u = 0; u < scalars[OCCUPIED_COUNT]; u++) {
+            int cell = occupied[u];
+            if (owners[cell] != player) continue;
+            for (int next : geometry.getSummonCells(cell)) {
+                if (unitIds[next] < 0 && !inZone[next]) {
+                    inZone[next] = true;
+                    zoneCells[size++] = next;
+                }
+            }
+        }
+        for (int z = 0; z < size; z++) inZone[zoneCells[z]] = false;
+        return size;
+    }
+
+    /**
+     * Plays an action of the player whose turn it is, which should be one of legalActions
+     *
+     * @param action
+     */
+    public void apply(Action action) {
+        int player = scalars[TURN];
+        int from = action.getFrom();
+        int to = action.getTo();
+        switch (action.getType()) {
+            case Action.SUMMON: {
+                int card = hands[player][from];
+                removeFromHand(player, from);
+                setMana(player, mana[player] - cardCosts[card]);
+                setUnit(to, card, player, cardHealths[card], cardAttacks[card], GameSnapshot.MOVED | GameSnapshot.ATTACKED);
+                break;
+            }
+            case Action.MOVE:
+                setUnit(to, unitIds[from], owners[from], health[from], attack[from], flags[from] | GameSnapshot.MOVED);
+                clearCell(from);
+                break;
+            case Action.ATTACK:
+                attack(from, to);
+                break;
+            default:
+                endTurn();
+                return;
+        }
+        write(scalars, TURN_ACTIONS, scalars[TURN_ACTIONS] + 1);
+    }
+
+    // the unit on the from cell attacks the one on the target cell, which hits back if it survives
+    private void attack(int from, int target) {
+        write(flags, from, flags[from] | GameSnapshot.ATTACKED | GameSnapshot.MOVED);
+        int targetHealth = health[target] - attack[from];
+        if (targetHealth <= 0) {
+            kill(target);
+            return;
+        }
+        setHealth(target, targetHealth);
+        int attackerHealth = health[from] - attack[target];
+        if (attackerHealth <= 0) kill(from);
+        else setHealth(from, attackerHealth);
+    }
+
+    private void kill(int cell) {
+        int id = unitIds[cell];
+        if (id == PLAYER1_AVATAR || id == PLAYER2_AVATAR) {
+            write(scalars, WINNER, otherPlayer(owners[cell]));
+        }
+        clearCell(cell);
+    }
+
+    private void endTurn() {
+        int player = scalars[TURN];
+
+        // draw a card, it is lost if the hand is full
+        if (deckPositions[player] < decks[player].length) {
+            int card = decks[player][deckPositions[player]];
+            write(deckPositions, player, deckPositions[player] + 1);
+            if (handSizes[player] < AppConstants.maxCardsInHand) addToHand(player, card);
+        }
+
+        setMana(player, 0);
+        if (player == 2) {
+            write(scalars, PLAYER_TURNS, scalars[PLAYER_TURNS] + 1);
+            setMana(1, Math.min(9, scalars[PLAYER_TURNS] + 1));
+        } else {
+            setMana(2, Math.min(9, scalars[COMP_TURNS] + 1));
+            write(scalars, COMP_TURNS, scalars[COMP_TURNS] + 1);
+        }
+
+        for (int u = 0; u < scalars[OCCUPIED_COUNT]; u++) {
+            int cell = occupied[u];
+            if (flags[cell] != 0) write(flags, cell, 0);
+        }
+
+        write(scalars, TURN, otherPlayer(player));
+        write(scalars, TURN_ACTIONS, 0);
+        hash ^= Zobrist.PLAYER2_TO_MOVE;
+    }
+
+    private void setUnit(int cell, int id, int owner, int unitHealth, int unitAttack, int unitFlags) {
+        if (unitIds[cell] >= 0) hash ^= Zobrist.unitKey(cell, unitIds[cell], owners[cell], health[cell], attack[cell]);
+        else {
+            int count = scalars[OCCUPIED_COUNT];
+            write(occupied, count, cell);
+            write(occupiedIndex, cell, count);
+            write(scalars, OCCUPIED_COUNT, count + 1);
+        }
+        write(unitIds, cell, id);
+        write(owners, cell, owner);
+        write(health, cell, unitHealth);
+        write(attack, cell, unitAttack);
+        write(flags, cell, unitFlags);
+        hash ^= Zobrist.unitKey(cell, id, owner, unitHealth, unitAttack);
+    }
+
+    private void setHealth(int cell, int unitHealth) {
+        hash ^= Zobrist.unitKey(cell, unitIds[cell], owners[cell], health[cell], attack[cell]);
+        write(health, cell, unitHealth);
+        hash ^= Zobrist.unitKey(cell, unitIds[cell], owners[cell], health[cell], attack[cell]);
+    }
+
+    private void clearCell(int cell) {
+        hash ^= Zobrist.unitKey(cell, unitIds[cell], owners[cell], health[cell], attack[cell]);
+        write(unitIds, cell, -1);
+        write(owners, cell, 0);
+        write(health, cell, 0);
+        write(attack, cell, 0);
+        write(flags, cell, 0);
+
+        // the last cell in the list takes this one's place
+        int index = occupiedIndex[cell];
+        int last = occupied[scalars[OCCUPIED_COUNT] - 1];
+        write(occupied, index, last);
+        write(occupiedIndex, last, index);
+        write(occupiedIndex, cell, -1);
+        write(scalars, OCCUPIED_COUNT, scalars[OCCUPIED_COUNT] - 1);
+    }
+
+    private void setMana(int player, int value) {
+        hash ^= Zobrist.manaKey(player, mana[player]) ^ Zobrist.manaKey(player, value);
+        write(mana, player, value);
+    }
+
+    private void addToHand(int player, int card) {
+        write(hands[player], handSizes[player], card);
+        write(handSizes, player, handSizes[player] + 1);
+        hash ^= Zobrist.handKey(player, card);
+    }
+
+    // takes the card out of the hand, the cards after it move up as in Player.deleteCardInHand
+    private void removeFromHand(int player, int index) {
+        int[] hand = hands[player];
+        hash ^= Zobrist.handKey(player, hand[index]);
+        for (int i = index; i < handSizes[player] - 1; i++) write(hand, i, hand[i + 1]);
+        write(handSizes, player, handSizes[player] - 1);
+    }
+
+    /**
+     * Works the hash out from scratch, it should always equal getHash
+     *
+     * @return
+     */
+    public long computeHash() {
+        long fresh = scalars[TURN] == 1 ? 0 : Zobrist.PLAYER2_TO_MOVE;
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (unitIds[cell] >= 0) fresh ^= Zobrist.unitKey(cell, unitIds[cell], owners[cell], health[cell], attack[cell]);
+        }
+        for (int player = 1; player <= 2; player++) {
+            fresh ^= Zobrist.manaKey(player, mana[player]);
+            for (int i = 0; i < handSizes[player]; i++) fresh ^= Zobrist.handKey(player, hands[player][i]);
+        }
+        return fresh;
+    }
+
+    /**
+     * How good the position is for the player: a large number if they have won (negative if they
+     * have lost), otherwise the difference between the two avatars' health (counted three
+     * times) and between the health and attack of the two sides' other units
+     *
+     * @param player
+     * @return
+     */
+    public int evaluate(int player) {
+        int winner = scalars[WINNER];
+        if (winner != 0) return winner == player ? 100000 : -100000;
+        int score = 0;
+        for (int u = 0; u < scalars[OCCUPIED_COUNT]; u++) {
+            int cell = occupied[u];
+            int id = unitIds[cell];
+            int value = (id == PLAYER1_AVATAR || id == PLAYER2_AVATAR) ? 3 * health[cell] : health[cell] + attack[cell];
+            score += owners[cell] == player ? value : -value;
+        }
+        return score;
+    }
+}
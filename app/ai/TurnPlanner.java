@@ -0,0 +1,35 @@
+package ai;
+
+import java.util.List;
+
+import structures.GameSnapshot;
+
+/**
+ * Decides the AI's turn from a snapshot of the game. ComputerPlayer plays the actions it
+ * returns, in order, through the same messages as its own summons, moves and attacks, then ends
+ * the turn (see ComputerPlayer.setPlanner).
+ *
+ */
+public interface TurnPlanner {
+
+    /**
+     * The summons, moves and attacks to play this turn, in order, without the end of the turn
+     *
+     * @param snapshot the game at the start of the turn, it is the planner's player's turn
+     * @return
+     */
+    List<Action> planTurn(GameSnapshot snapshot);
+
+    /**
+     * The best plan the planner has found when the time is up. However early it has to stop the
+     * plan is legal, if need be an empty one (the turn just ends). A planner that does not search
+     * can leave this to planTurn(snapshot)
+     *
+     * @param snapshot the game at the start of the turn, it is the planner's player's turn
+     * @param millis how long the planner may take, in milliseconds
+     * @return
+     */
+    default List<Action> planTurn(GameSnapshot snapshot, long millis) {
+        return planTurn(snapshot);
+    }
+}
@@ -0,0 +1,176 @@
+package commands;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import akka.actor.ActorRef;
+import akka.actor.Cancellable;
+import akka.actor.Scheduler;
+import scala.concurrent.ExecutionContext;
+
+/**
+ * Paces the commands sent to the front-end without blocking a thread.
+ *
+ * Each game (GameActor) has one timeline. While a timeline is attached to the current thread,
+ * AppConstants.callSleep does not sleep, it moves the timeline's cursor forward, and the
+ * commands BasicCommands sends are queued to go out when the cursor says they are due. The
+ * queue is emptied by tasks on the ActorSystem scheduler, so the event processor (or the AI
+ * thread) returns straight away and no thread waits for the animations to play.
+ *
+ * The cursor never falls behind the current time, and commands are always sent in the order
+ * they were queued, so the front-end sees the same commands with the same spacing as it did
+ * when the thread slept between them. Commands from the next event are queued behind any that
+ * are still waiting.
+ *
+ */
+public class AnimationTimeline {
+
+	private static final ThreadLocal<AnimationTimeline> current = new ThreadLocal<AnimationTimeline>();
+
+	private final ActorRef out;
+	private final Scheduler scheduler;
+	private final ExecutionContext dispatcher;
+
+	private final ArrayDeque<Entry> queue = new ArrayDeque<Entry>(); // commands waiting to be sent, in order
+	private long cursor = Long.MIN_VALUE; // time (ms) at which the next command will be sent
+	private Cancellable pending = null; // scheduled task that will send the head of the queue
+	private boolean stopped = false;
+
+	public AnimationTimeline(ActorRef out, Scheduler scheduler, ExecutionContext dispatcher) {
+		this.out = out;
+		this.scheduler = scheduler;
+		this.dispatcher = dispatcher;
+	}
+
+	/**
+	 * Attaches a timeline to the current thread, commands and sleeps on this thread
+	 * go through it until detach() is called
+	 * @param timeline
+	 */
+	public static void attach(AnimationTimeline timeline) {
+		if (timeline==null) current.remove();
+		else current.set(timeline);
+	}
+
+	public static void detach() {
+		current.remove();
+	}
+
+	/**
+	 * Queues a command on the timeline attached to this thread. Returns false if there is
+	 * no timeline (or it belongs to another connection), in which case the command should
+	 * be sent straight away
+	 * @param out
+	 * @param command
+	 * @return
+	 */
+	static boolean schedule(ActorRef out, ObjectNode command) {
+		AnimationTimeline timeline = current.get();
+		if (timeline==null || timeline.out!=out) return false;
+
+		timeline.enqueue(command);
+		return true;
+	}
+
+	/**
+	 * Moves the cursor of the timeline attached to this thread forward. Returns false if
+	 * there is no timeline, in which case the caller should sleep as normal
+	 * @param millis
+	 * @return
+	 */
+	public static boolean delay(long millis) {
+		AnimationTimeline timeline = current.get();
+		if (timeline==null) return false;
+
+		timeline.advance(millis);
+		return true;
+	}
+
+	synchronized void enqueue(ObjectNode command) {
+		if (stopped) return;
+
+		long now = now();
+		if (cursor<now) cursor = now;
+
+		// nothing waiting and nothing to wait for, send it now
+		if (queue.isEmpty() && cursor<=now) {
+			BasicCommands.tell(out, command);
+			return;
+		}
+
+		queue.add(new Entry(cursor, command));
+		if (pending==null) scheduleDrain(now);
+	}
+
+	synchronized void advance(long millis) {
+		long now = now();
+		if (cursor<now) cursor = now;
+		cursor += millis;
+	}
+
+	/**
+	 * Sends every command that is due and schedules the next run for the one after
+	 */
+	private synchronized void drain() {
+		pending = null;
+		if (stopped) return;
+
+		long now = now();
+		while (!queue.isEmpty() && queue.peek().due<=now) {
+			BasicCommands.tell(out, queue.poll().command);
+		}
+		if (!queue.isEmpty()) scheduleDrain(now);
+	}
+
+	private void scheduleDrain(long now) {
+		pending = scheduleOnce(queue.peek().due-now, this::drain);
+	}
+
+	/**
+	 * Drops any commands still waiting, called when the connection closes
+	 */
+	public synchronized void stop() {
+		stopped = true;
+		queue.clear();
+		if (pending!=null) pending.cancel();
+		pending = null;
+	}
+
+	/**
+	 * Returns the number of commands waiting to be sent
+	 * @return
+	 */
+	public synchronized int getPendingCommands() {
+		return queue.size();
+	}
+
+	/**
+	 * Returns how long (ms) until the last command queued so far will have been sent
+	 * @return
+	 */
+	public synchronized long getRemainingTime() {
+		long now = now();
+		if (cursor<=now) return 0;
+		return cursor-now;
+	}
+
+	protected Cancellable scheduleOnce(long delayMillis, Runnable task) {
+		return scheduler.scheduleOnce(Duration.ofMillis(delayMillis), task, dispatcher);
+	}
+
+	protected long now() {
+		return System.nanoTime()/1000000;
+	}
+
+	private static class Entry {
+		final long due;
+		final ObjectNode command;
+
+		Entry(long due, ObjectNode command) {
+			this.due = due;
+			this.command = command;
+		}
+	}
+}
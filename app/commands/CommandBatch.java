@@ -0,0 +1,125 @@
+package commands;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import akka.actor.ActorRef;
+import play.libs.Json;
+import utils.AppConstants;
+
+/**
+ * Collects the commands sent by BasicCommands while an event is being processed and sends
+ * them to the front-end as a single 'commandBatch' message, instead of one websocket message
+ * per command.
+ *
+ * A batch is opened with begin(out) and sent with end(). While a batch is open on a thread,
+ * AppConstants.callSleep does not sleep, it moves the batch's clock forward instead. Each
+ * command in the batch records how far into the batch it was sent (its delay in ms), so the
+ * front-end can replay the commands with the same spacing as before. When the batch is sent
+ * the caller then sleeps once for the whole length of the batch, so the game is paced the same
+ * way it was when every command was sent on its own.
+ *
+ * Batches are per thread (the AI runs on its own thread) and can be nested, only the outermost
+ * end() sends the batch. Batching is only used when AppConstants.commandBatching is true, as the
+ * front-end has to understand the 'commandBatch' message.
+ *
+ * Message format:
+ * {"messagetype":"commandBatch","duration":ms,"commands":[{"delay":ms,"command":{...}}, ...]}
+ *
+ */
+public class CommandBatch {
+
+	private static final ThreadLocal<CommandBatch> current = new ThreadLocal<CommandBatch>();
+
+	private final ActorRef out;
+	private final ArrayNode commands = Json.newArray();
+	private long offset = 0; // ms since the batch was opened
+	private int depth = 0; // number of begin() calls that have not been closed yet
+
+	private CommandBatch(ActorRef out) {
+		this.out = out;
+	}
+
+	/**
+	 * Opens a batch on this thread, or joins the batch that is already open
+	 * @param out
+	 */
+	public static void begin(ActorRef out) {
+		if (!AppConstants.commandBatching) return;
+
+		CommandBatch batch = current.get();
+		if (batch==null) {
+			batch = new CommandBatch(out);
+			current.set(batch);
+		}
+		batch.depth++;
+	}
+
+	/**
+	 * Closes the batch opened by the matching begin(). When the outermost batch is
+	 * closed, its commands are sent as one message
+	 */
+	public static void end() {
+		CommandBatch batch = current.get();
+		if (batch==null) return;
+
+		batch.depth--;
+		if (batch.depth>0) return;
+
+		current.remove();
+		batch.flush();
+	}
+
+	/**
+	 * Returns true if a batch is open on this thread
+	 * @return
+	 */
+	public static boolean isOpen() {
+		return current.get()!=null;
+	}
+
+	/**
+	 * Adds a command to the batch open on this thread. Returns false if there is no
+	 * batch (or it is for another connection), in which case the command should be
+	 * sent straight away
+	 * @param out
+	 * @param command
+	 * @return
+	 */
+	static boolean add(ActorRef out, ObjectNode command) {
+		CommandBatch batch = current.get();
+		if (batch==null || batch.out!=out) return false;
+
+		ObjectNode entry = batch.commands.addObject();
+		entry.put("delay", batch.offset);
+		entry.set("command", command);
+		return true;
+	}
+
+	/**
+	 * Moves the clock of the batch open on this thread forward. Returns false if there
+	 * is no batch, in which case the caller should sleep as normal
+	 * @param millis
+	 * @return
+	 */
+	public static boolean delay(long millis) {
+		CommandBatch batch = current.get();
+		if (batch==null) return false;
+
+		batch.offset += millis;
+		return true;
+	}
+
+	private void flush() {
+		if (commands.size()>0) {
+			ObjectNode frame = Json.newObject();
+			frame.put("messagetype", "commandBatch");
+			frame.put("duration", offset);
+			frame.set("commands", commands);
+			BasicCommands.sendNow(out, frame);
+		}
+
+		// hold the caller while the front-end plays the batch back
+		if (offset>0) AppConstants.callSleep(offset);
+	}
+}
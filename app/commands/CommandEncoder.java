@@ -0,0 +1,200 @@
+package commands;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import structures.basic.BetterUnit;
+import structures.basic.Card;
+import structures.basic.Tile;
+import structures.basic.Unit;
+
+/**
+ * Turns the game objects that BasicCommands sends to the front-end into JSON.
+ *
+ * The old approach wrote every object out to a String and then parsed that String
+ * back into a tree, so each command paid for two full Jackson passes. Here the tree
+ * is built in a single pass (valueToTree buffers tokens rather than text) and the
+ * objects sent most often (Tile, Unit and Card) have hand written serializers so
+ * Jackson does not need to introspect them through reflection on every call.
+ *
+ * Tiles and cards do not change once loaded so their JSON is kept on the object and
+ * reused (see encode), units keep theirs until one of their setters marks them dirty.
+ * The cached nodes are shared between messages and must never be modified.
+ *
+ * ObjectWriters are cached per type for callers that need the encoded bytes directly.
+ *
+ */
+public class CommandEncoder {
+
+	private static final ObjectMapper mapper = createMapper();
+
+	private static final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+	private static ObjectMapper createMapper() {
+		SimpleModule module = new SimpleModule("CommandEncoder");
+		module.addSerializer(Tile.class, new TileSerializer());
+		module.addSerializer(Unit.class, new UnitSerializer());
+		module.addSerializer(Card.class, new CardSerializer());
+		return new ObjectMapper().registerModule(module);
+	}
+
+	/**
+	 * Builds the JSON tree for an object in a single serialization pass
+	 * @param value
+	 * @return
+	 */
+	public static JsonNode toJson(Object value) {
+		return mapper.valueToTree(value);
+	}
+
+	/**
+	 * Returns the cached JSON for a tile, tiles are only encoded once
+	 * @param tile
+	 * @return
+	 */
+	public static JsonNode encode(Tile tile) {
+		if (tile==null) return NullNode.getInstance();
+		return tile.getEncoded();
+	}
+
+	/**
+	 * Returns the cached JSON for a unit, it is encoded again only if the unit has changed
+	 * @param unit
+	 * @return
+	 */
+	public static JsonNode encode(Unit unit) {
+		if (unit==null) return NullNode.getInstance();
+		return unit.getEncoded();
+	}
+
+	/**
+	 * Returns the cached JSON for a card, cards are only encoded once
+	 * @param card
+	 * @return
+	 */
+	public static JsonNode encode(Card card) {
+		if (card==null) return NullNode.getInstance();
+		return card.getEncoded();
+	}
+
+	/**
+	 * Encodes an object (or a whole message tree) straight to UTF-8 bytes using
+	 * a cached writer for its type
+	 * @param value
+	 * @return
+	 * @throws JsonProcessingException
+	 */
+	public static byte[] toBytes(Object value) throws JsonProcessingException {
+		return writerFor(value.getClass()).writeValueAsBytes(value);
+	}
+
+	/**
+	 * Returns the cached writer for the given type, creating it on first use
+	 * @param type
+	 * @return
+	 */
+	public static ObjectWriter writerFor(Class<?> type) {
+		return writers.computeIfAbsent(type, mapper::writerFor);
+	}
+
+	public static ObjectMapper getMapper() {
+		return mapper;
+	}
+
+	/**
+	 * Writes the tile fields the front-end needs to place and draw a tile. The unit
+	 * standing on the tile is not written, drawUnit and moveUnitToTile send the unit
+	 * separately.
+	 */
+	static class TileSerializer extends StdSerializer<Tile> {
+
+		private static final long serialVersionUID = 1L;
+
+		TileSerializer() {
+			super(Tile.class);
+		}
+
+		@Override
+		public void serialize(Tile tile, JsonGenerator gen, SerializerProvider provider) throws IOException {
+			gen.writeStartObject();
+			provider.defaultSerializeField("tileTextures", tile.getTileTextures(), gen);
+			gen.writeNumberField("xpos", tile.getXpos());
+			gen.writeNumberField("ypos", tile.getYpos());
+			gen.writeNumberField("width", tile.getWidth());
+			gen.writeNumberField("height", tile.getHeight());
+			gen.writeNumberField("tilex", tile.getTilex());
+			gen.writeNumberField("tiley", tile.getTiley());
+			gen.writeEndObject();
+		}
+	}
+
+	/**
+	 * Writes the same properties Jackson would find on Unit (and BetterUnit) through
+	 * its getters, without the reflection
+	 */
+	static class UnitSerializer extends StdSerializer<Unit> {
+
+		private static final long serialVersionUID = 1L;
+
+		UnitSerializer() {
+			super(Unit.class);
+		}
+
+		@Override
+		public void serialize(Unit unit, JsonGenerator gen, SerializerProvider provider) throws IOException {
+			gen.writeStartObject();
+			gen.writeBooleanField("attackedOnce", unit.getAttackedOnce());
+			gen.writeBooleanField("attackedTwice", unit.getAttackedTwice());
+			gen.writeStringField("name", unit.getName());
+			gen.writeNumberField("id", unit.getId());
+			if (unit.getAnimation()==null) gen.writeNullField("animation");
+			else gen.writeStringField("animation", unit.getAnimation().name());
+			provider.defaultSerializeField("position", unit.getPosition(), gen);
+			provider.defaultSerializeField("animations", unit.getAnimations(), gen);
+			provider.defaultSerializeField("correction", unit.getCorrection(), gen);
+			gen.writeNumberField("health", unit.getHealth());
+			gen.writeNumberField("attack", unit.getAttack());
+			gen.writeNumberField("isPlayer", unit.getIsPlayer());
+			gen.writeBooleanField("moved", unit.getMoved());
+			gen.writeBooleanField("attacked", unit.getAttacked());
+			gen.writeNumberField("maxHealth", unit.getMaxHealth());
+			gen.writeBooleanField("provoked", unit.isProvoked());
+			gen.writeNumberField("summonedID", unit.getSummonedID());
+			if (unit instanceof BetterUnit) {
+				provider.defaultSerializeField("keywords", ((BetterUnit) unit).getKeywords(), gen);
+			}
+			gen.writeEndObject();
+		}
+	}
+
+	static class CardSerializer extends StdSerializer<Card> {
+
+		private static final long serialVersionUID = 1L;
+
+		CardSerializer() {
+			super(Card.class);
+		}
+
+		@Override
+		public void serialize(Card card, JsonGenerator gen, SerializerProvider provider) throws IOException {
+			gen.writeStartObject();
+			gen.writeNumberField("id", card.getId());
+			gen.writeStringField("cardname", card.getCardname());
+			gen.writeNumberField("manacost", card.getManacost());
+			provider.defaultSerializeField("miniCard", card.getMiniCard(), gen);
+			provider.defaultSerializeField("bigCard", card.getBigCard(), gen);
+			gen.writeEndObject();
+		}
+	}
+}
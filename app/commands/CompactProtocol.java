@@ -0,0 +1,170 @@
+package commands;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import akka.actor.ActorRef;
+import play.libs.Json;
+
+/**
+ * An optional, smaller version of the messages sent to the front-end, mainly for mobile clients.
+ *
+ * The GameActor lists the protocols it can speak in the 'actorReady' message ("protocols").
+ * A front-end that wants the compact one adds "protocol":"compact" to its 'initalize' event,
+ * after which every message sent on that connection is passed through compact() just before
+ * it goes out. The front-end already has the grid, so in compact messages:
+ *
+ * - "messagetype" becomes "m" with a short code (see codes below)
+ * - "tile" / "targetTile" become "t" / "tt" holding [tilex, tiley]
+ * - "unit" becomes "u" holding the unit id, except in drawUnit which introduces the unit and
+ *   so still sends all of it
+ * - "player" becomes "v" holding the health or mana value being set
+ * - a commandBatch becomes {"m":"cb","d":duration,"c":[{"d":delay,"c":{compact command}}, ...]}
+ *
+ * All other fields are sent unchanged.
+ *
+ */
+public class CompactProtocol {
+
+	public static final String FULL = "full";
+	public static final String COMPACT = "compact";
+
+	private static final Map<String,String> codes = new HashMap<String,String>();
+	static {
+		codes.put("drawTile", "dt");
+		codes.put("drawUnit", "du");
+		codes.put("setUnitAttack", "ua");
+		codes.put("setUnitHealth", "uh");
+		codes.put("moveUnitToTile", "mu");
+		codes.put("playUnitAnimation", "pa");
+		codes.put("deleteUnit", "xu");
+		codes.put("setPlayer1Health", "h1");
+		codes.put("setPlayer2Health", "h2");
+		codes.put("setPlayer1Mana", "m1");
+		codes.put("setPlayer2Mana", "m2");
+		codes.put("drawCard", "dc");
+		codes.put("deleteCard", "xc");
+		codes.put("playEffectAnimation", "pe");
+		codes.put("addPlayer1Notification", "n1");
+		codes.put("drawProjectile", "dp");
+		codes.put("commandBatch", "cb");
+	}
+
+	// connections that asked for the compact protocol
+	private static final Map<ActorRef,Boolean> compactConnections = new ConcurrentHashMap<ActorRef,Boolean>();
+
+	/**
+	 * Returns the protocols the back-end can speak, sent in the actorReady message
+	 * @return
+	 */
+	public static ArrayNode getSupportedProtocols() {
+		ArrayNode protocols = Json.newArray();
+		protocols.add(FULL);
+		protocols.add(COMPACT);
+		return protocols;
+	}
+
+	/**
+	 * Reads the protocol the front-end asked for in its initalize message
+	 * @param out
+	 * @param message
+	 */
+	public static void negotiate(ActorRef out, JsonNode message) {
+		if (out==null || message==null || !message.has("protocol")) return;
+
+		if (message.get("protocol").asText().equals(COMPACT)) compactConnections.put(out, Boolean.TRUE);
+		else compactConnections.remove(out);
+	}
+
+	/**
+	 * Forgets a connection, called when its websocket closes
+	 * @param out
+	 */
+	public static void release(ActorRef out) {
+		if (out!=null) compactConnections.remove(out);
+	}
+
+	public static boolean isEnabled(ActorRef out) {
+		return out!=null && compactConnections.containsKey(out);
+	}
+
+	/**
+	 * Returns the short code for a message type, or null if it has none
+	 * @param messageType
+	 * @return
+	 */
+	public static String getCode(String messageType) {
+		return codes.get(messageType);
+	}
+
+	/**
+	 * Builds the compact version of a message. The original message is not changed,
+	 * it may share (cached) nodes with other messages
+	 * @param message
+	 * @return
+	 */
+	public static ObjectNode compact(ObjectNode message) {
+		String messageType = message.path("messagetype").asText();
+		String code = codes.get(messageType);
+		if (code==null) return message; // not a command this protocol knows about, send it as it is
+
+		ObjectNode compact = Json.newObject();
+		compact.put("m", code);
+
+		Iterator<Map.Entry<String,JsonNode>> fields = message.fields();
+		while (fields.hasNext()) {
+			Map.Entry<String,JsonNode> field = fields.next();
+			String name = field.getKey();
+			JsonNode value = field.getValue();
+
+			switch (name) {
+			case "messagetype":
+				break;
+			case "tile":
+				compact.set("t", tileReference(value));
+				break;
+			case "targetTile":
+				compact.set("tt", tileReference(value));
+				break;
+			case "unit":
+				// drawUnit is where the front-end first sees a unit, so it needs all of it
+				if (messageType.equals("drawUnit") || !value.has("id")) compact.set("u", value);
+				else compact.put("u", value.get("id").asInt());
+				break;
+			case "player":
+				compact.set("v", value.path(messageType.endsWith("Mana") ? "mana" : "health"));
+				break;
+			case "duration":
+				compact.set("d", value);
+				break;
+			case "commands":
+				ArrayNode commands = compact.putArray("c");
+				for (JsonNode entry : value) {
+					ObjectNode compactEntry = commands.addObject();
+					compactEntry.set("d", entry.get("delay"));
+					compactEntry.set("c", compact((ObjectNode) entry.get("command")));
+				}
+				break;
+			default:
+				compact.set(name, value);
+			}
+		}
+		return compact;
+	}
+
+	private static JsonNode tileReference(JsonNode tile) {
+		if (tile==null || !tile.has("tilex")) return NullNode.getInstance();
+
+		ArrayNode reference = Json.newArray();
+		reference.add(tile.get("tilex").asInt());
+		reference.add(tile.get("tiley").asInt());
+		return reference;
+	}
+}
@@ -0,0 +1,64 @@
+package commands;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A DummyTell that keeps the commands sent to it instead of sending them to a front-end.
+ * Used for headless games (see HeadlessGame). Set keepMessages to false to only count
+ * the commands by message type, which is all long simulations usually need.
+ *
+ */
+public class RecordingTell implements DummyTell {
+
+	private final boolean keepMessages;
+	private final List<ObjectNode> messages = new ArrayList<ObjectNode>();
+	private final Map<String,Integer> counts = new HashMap<String,Integer>();
+	private int total = 0;
+
+	public RecordingTell() {
+		this(true);
+	}
+
+	public RecordingTell(boolean keepMessages) {
+		this.keepMessages = keepMessages;
+	}
+
+	@Override
+	public synchronized void tell(ObjectNode message) {
+		if (keepMessages) messages.add(message);
+		counts.merge(message.path("messagetype").asText(), 1, Integer::sum);
+		total++;
+	}
+
+	/**
+	 * The commands received so far, empty if keepMessages is false
+	 * @return
+	 */
+	public synchronized List<ObjectNode> getMessages() {
+		return new ArrayList<ObjectNode>(messages);
+	}
+
+	/**
+	 * Number of commands received with the given message type
+	 * @param messageType
+	 * @return
+	 */
+	public synchronized int getCount(String messageType) {
+		return counts.getOrDefault(messageType, 0);
+	}
+
+	public synchronized int getTotal() {
+		return total;
+	}
+
+	public synchronized void clear() {
+		messages.clear();
+		counts.clear();
+		total = 0;
+	}
+}
@@ -1,60 +1,101 @@
-package controllers;
-
-import javax.inject.Inject;
-
-import actors.GameActor;
-import akka.actor.ActorRef;
-import akka.actor.ActorSystem;
-import akka.actor.Props;
-import akka.stream.Materializer;
-import play.data.Form;
-import play.data.FormFactory;
-import play.libs.streams.ActorFlow;
-import play.mvc.Controller;
-import play.mvc.Http;
-import play.mvc.Result;
-import play.mvc.WebSocket;
-import structures.User;
-
-/**
- * This is the Controller class for the game. 
- * @author Dr. Richard McCreadie
- *
- */
-public class GameScreenController extends Controller {
-
-	private final ActorSystem actorSystem;
-	private final Materializer materializer;
-	Form<User> userForm = null;
-	
-	
-	@Inject
-	public GameScreenController(FormFactory formFactory, ActorSystem actorSystem, Materializer materializer) {
-		this.actorSystem = actorSystem;
-		this.materializer = materializer;
-		userForm = formFactory.form(User.class);
-	}
-
-	/**
-	 * This responds to the request for creation of the Websocket 
-	 * @return
-	 */
-	public WebSocket socket() {
-
-		return WebSocket.Json.accept(
-				request -> ActorFlow.actorRef(this::createGameActor, actorSystem, materializer));
-	}
-
-	/**
-	 * This method responds to the original request for the /game screen
-	 * @param request
-	 * @return
-	 */
-	public Result index(Http.Request request) {
-		return ok(views.html.gamescreen.render(request, null));
-	}
-	
-	public Props createGameActor(ActorRef out) {
-		return Props.create(GameActor.class, out); // calls the constructor for Game Actor
-	}
+package controllers;
+
+import javax.inject.Inject;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import actors.GameActor;
+import actors.OutboundActor;
+import actors.OutboundBuffer;
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.PoisonPill;
+import akka.actor.Props;
+import akka.japi.Pair;
+import akka.stream.Materializer;
+import akka.stream.OverflowStrategy;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.SourceQueueWithComplete;
+import play.data.Form;
+import play.data.FormFactory;
+import play.mvc.Controller;
+import play.mvc.Http;
+import play.mvc.Result;
+import play.mvc.WebSocket;
+import structures.User;
+import utils.AppConstants;
+import utils.AssetRegistry;
+import utils.PreloadManifest;
+
+/**
+ * This is the Controller class for the game. 
+ * @author Dr. Richard McCreadie
+ *
+ */
+public class GameScreenController extends Controller {
+
+	private final ActorSystem actorSystem;
+	private final Materializer materializer;
+	Form<User> userForm = null;
+	
+	
+	@Inject
+	public GameScreenController(FormFactory formFactory, ActorSystem actorSystem, Materializer materializer) {
+		this.actorSystem = actorSystem;
+		this.materializer = materializer;
+		userForm = formFactory.form(User.class);
+		AssetRegistry.preload(); // read the game's configuration files once, rather than during games
+		PreloadManifest.forGame(); // and build the list of images to preload
+	}
+
+	/**
+	 * This responds to the request for creation of the Websocket 
+	 * @return
+	 */
+	public WebSocket socket() {
+
+		// a front-end that has already preloaded the images sends the hash of their list (see PreloadManifest)
+		return WebSocket.Json.accept(request -> createGameFlow(request.getQueryString("preloadHash")));
+	}
+
+	/**
+	 * Builds the flow for one websocket. Messages from the front-end go to a new GameActor,
+	 * messages from the GameActor go through an OutboundBuffer into a backpressured queue,
+	 * so a slow browser makes them wait (and merge) rather than be dropped
+	 * @param preloadHash
+	 * @return
+	 */
+	public Flow<JsonNode,JsonNode,NotUsed> createGameFlow(String preloadHash) {
+		Pair<SourceQueueWithComplete<JsonNode>,Source<JsonNode,NotUsed>> outbound =
+				Source.<JsonNode>queue(AppConstants.outboundQueueSize, OverflowStrategy.backpressure()).preMaterialize(materializer);
+
+		OutboundBuffer buffer = new OutboundBuffer(outbound.first(), AppConstants.outboundBufferSize);
+		ActorRef out = actorSystem.actorOf(OutboundActor.props(buffer));
+		ActorRef gameActor = actorSystem.actorOf(createGameActor(out, preloadHash));
+
+		// when the websocket closes, or its stream fails (the browser went away, or the OutboundBuffer
+		// overflowed), the GameActor is stopped, which stops its AI turn and the outbound actor
+		Sink<JsonNode,NotUsed> in = Sink.actorRef(gameActor, PoisonPill.getInstance(), failure -> PoisonPill.getInstance());
+		return Flow.fromSinkAndSource(in, outbound.second());
+	}
+
+	/**
+	 * This method responds to the original request for the /game screen
+	 * @param request
+	 * @return
+	 */
+	public Result index(Http.Request request) {
+		return ok(views.html.gamescreen.render(request, null));
+	}
+	
+	public Props createGameActor(ActorRef out) {
+		return Props.create(GameActor.class, out); // calls the constructor for Game Actor
+	}
+	
+	public Props createGameActor(ActorRef out, String preloadHash) {
+		return Props.create(GameActor.class, out, preloadHash==null ? "" : preloadHash);
+	}
 }
\ No newline at end of file
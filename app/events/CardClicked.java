@@ -80,17 +80,8 @@ public class CardClicked implements EventProcessor {
                 gameState.board.highlightTilesWhiteSpell(out, gameState.SummonTileList);
 
             } else {
-                gameState.SummonTileList = new ArrayList<Tile>();
-                // list of the tiles with units
-                ArrayList<Tile> list = gameState.board.getTilesWithUnits(out, gameState.board.getTiles(), player);
-
-                // iteration through the list and highlight adjacent tiles
-                for (Tile items : list) {
-                    ArrayList<Tile> listItem = gameState.board.summonableTiles(out, items);
-                    for (Tile tile : listItem) {
-                        gameState.SummonTileList.add(tile);
-                    }
-                }
+                // the tiles next to the player's units
+                gameState.SummonTileList = gameState.board.getSummonZoneTiles(player);
                 gameState.board.highlightTilesWhite(out, gameState.SummonTileList);
             }
 
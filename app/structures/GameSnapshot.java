@@ -0,0 +1,412 @@
+package structures;
+
+import java.util.Arrays;
+import java.util.List;
+
+import structures.basic.Board;
+import structures.basic.Card;
+import structures.basic.Player;
+import structures.basic.Unit;
+import structures.basic.Zobrist;
+
+/**
+ * A compact copy of the parts of a GameState that decide the game: the units on the board
+ * (id, cell, owner, health, attack and flags), both players' health, mana, hands and decks
+ * (with the cost and stats of their cards), and whose turn it is. Everything is held in arrays
+ * of ints, so a snapshot takes a few hundred bytes and has no link back to the Unit, Card or
+ * Tile objects or to the front-end.
+ *
+ * A snapshot never changes once it has been taken (the getters return copies of the arrays), so
+ * it can be shared between threads, kept for a replay or compared with equals. The AI search
+ * takes one at the start of a turn and copies its arrays into its own states to play moves on.
+ *
+ * Units are listed in the order of the cells they are on, column by column, so two games with
+ * the same units in the same places give equal snapshots.
+ *
+ */
+public final class GameSnapshot {
+
+    // flags of a unit
+    public static final int MOVED = 1;
+    public static final int ATTACKED = 2;
+    public static final int ATTACKED_ONCE = 4;
+    public static final int ATTACKED_TWICE = 8;
+    public static final int PROVOKED = 16;
+
+    private final int width;
+    private final int height;
+
+    // one entry for each unit on the board
+    private final int[] unitIds;
+    private final int[] unitCells;
+    private final int[] unitOwners;
+    private final int[] unitHealth;
+    private final int[] unitMaxHealth;
+    private final int[] unitAttack;
+    private final int[] unitFlags;
+
+    // by player id (index 1 and 2, index 0 is not used)
+    private final int[] playerHealth;
+    private final int[] playerMana;
+    private final int[][] handCards; // card ids, in hand order
+    private final int[][] handCosts; // the mana cost of each card in the hand
+    private final int[][] deckCards; // card ids, the next card to be drawn first
+
+    // what each card in the hands and decks does, by card id: its cost, the attack and health of
+    // the unit it summons, and whether it summons a unit (otherwise it is a spell)
+    private final int[] cardCosts;
+    private final int[] cardAttacks;
+    private final int[] cardHealths;
+    private final boolean[] unitCards;
+
+    private final int turnPlayer; // the player whose turn it is
+    private final int playerTurnNumber;
+    private final int compTurnNumber;
+    private final boolean gameOver;
+    private final long zobristHash;
+
+    private GameSnapshot(int width, int height, int[] unitIds, int[] unitCells, int[] unitOwners,
+                         int[] unitHealth, int[] unitMaxHealth, int[] unitAttack, int[] unitFlags,
+                         int[] playerHealth, int[] playerMana, int[][] handCards, int[][] handCosts, int[][] deckCards,
+                         int[] cardCosts, int[] cardAttacks, int[] cardHealths, boolean[] unitCards, int turnPlayer, int playerTurnNumber, int compTurnNumber, boolean gameOver) {
+        this.width = width;
+        this.height = height;
+        this.unitIds = unitIds;
+        this.unitCells = unitCells;
+        this.unitOwners = unitOwners;
+        this.unitHealth = unitHealth;
+        this.unitMaxHealth = unitMaxHealth;
+        this.unitAttack = unitAttack;
+        this.unitFlags = unitFlags;
+        this.playerHealth = playerHealth;
+        this.playerMana = playerMana;
+        this.handCards = handCards;
+        this.handCosts = handCosts;
+        this.deckCards = deckCards;
+        this.cardCosts = cardCosts;
+        this.cardAttacks = cardAttacks;
+        this.cardHealths = cardHealths;
+        this.unitCards = unitCards;
+        this.turnPlayer = turnPlayer;
+        this.playerTurnNumber = playerTurnNumber;
+        this.compTurnNumber = compTurnNumber;
+        this.gameOver = gameOver;
+        this.zobristHash = computeZobristHash();
+    }
+
+    // the same hash as GameState.getZobristHash gives for the game this was taken from
+    private long computeZobristHash() {
+        long hash = turnPlayer == 1 ? 0 : Zobrist.PLAYER2_TO_MOVE;
+        for (int unit = 0; unit < unitIds.length; unit++) {
+            hash ^= Zobrist.unitKey(unitCells[unit], unitIds[unit], unitOwners[unit], unitHealth[unit], unitAttack[unit]);
+        }
+        for (int id = 1; id <= 2; id++) {
+            hash ^= Zobrist.manaKey(id, playerMana[id]);
+            for (int card : handCards[id]) hash ^= Zobrist.handKey(id, card);
+        }
+        return hash;
+    }
+
+    /**
+     * Takes a snapshot of the game. Only the board's occupied cells are visited, so this costs
+     * about the same whatever the size of the board
+     *
+     * @param gameState
+     * @return
+     */
+    public static GameSnapshot of(GameState gameState) {
+        Board board = gameState.board;
+        long[] occupied = board.getOccupiedWords();
+        int count = 0; // the number of units on the board
+        for (long word : occupied) count += Long.bitCount(word);
+        int[] ids = new int[count];
+        int[] unitCells = new int[count];
+        int[] owners = new int[count];
+        int[] health = new int[count];
+        int[] maxHealth = new int[count];
+        int[] attack = new int[count];
+        int[] flags = new int[count];
+
+        int units = 0;
+        for (int word = 0; word < occupied.length; word++) {
+            long bits = occupied[word];
+            while (bits != 0) {
+                int cell = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                Unit unit = board.tileAt(cell).getUnitFromTile();
+                ids[units] = unit.getId();
+                unitCells[units] = cell;
+                owners[units] = unit.getIsPlayer();
+                health[units] = unit.getHealth();
+                maxHealth[units] = unit.getMaxHealth();
+                attack[units] = unit.getAttack();
+                flags[units] = flagsOf(unit);
+                units++;
+            }
+        }
+
+        Player[] players = {null, gameState.player1, gameState.player2};
+        int[] playerHealth = new int[3];
+        int[] playerMana = new int[3];
+        int[][] handCards = new int[3][0];
+        int[][] handCosts = new int[3][0];
+        int[][] deckCards = new int[3][0];
+        for (int id = 1; id <= 2; id++) {
+            Player player = players[id];
+            if (player == null) continue;
+            playerHealth[id] = player.getHealth();
+            playerMana[id] = player.getMana();
+            handCards[id] = idsOf(player.hand);
+            handCosts[id] = costsOf(player.hand);
+            deckCards[id] = idsOf(player.deck);
+        }
+
+        int cardCount = 0;
+        for (int id = 1; id <= 2; id++) {
+            for (int card : handCards[id]) cardCount = Math.max(cardCount, card + 1);
+            for (int card : deckCards[id]) cardCount = Math.max(cardCount, card + 1);
+        }
+        int[] cardCosts = new int[cardCount];
+        int[] cardAttacks = new int[cardCount];
+        int[] cardHealths = new int[cardCount];
+        boolean[] unitCards = new boolean[cardCount];
+        for (int id = 1; id <= 2; id++) {
+            Player player = players[id];
+            if (player == null) continue;
+            for (List<Card> cards : Arrays.asList(player.hand, player.deck)) {
+                if (cards == null) continue;
+                for (Card card : cards) {
+                    cardCosts[card.getId()] = card.getManacost();
+                    if (card.getBigCard() != null) {
+                        cardAttacks[card.getId()] = card.getBigCard().getAttack();
+                        cardHealths[card.getId()] = card.getBigCard().getHealth();
+                    }
+                    unitCards[card.getId()] = player.getUnitbyCard(card) != null;
+                }
+            }
+        }
+
+        return new GameSnapshot(board.getWidth(), board.getHeight(), ids, unitCells, owners,
+                health, maxHealth, attack, flags, playerHealth, playerMana, handCards, handCosts, deckCards,
+                cardCosts, cardAttacks, cardHealths, unitCards, gameState.player1Turn ? 1 : 2, gameState.playerTurnNumber, gameState.compTurnNumber, gameState.isGameOver);
+    }
+
+    static int flagsOf(Unit unit) {
+        int flags = 0;
+        if (unit.getMoved()) flags |= MOVED;
+        if (unit.getAttacked()) flags |= ATTACKED;
+        if (unit.getAttackedOnce()) flags |= ATTACKED_ONCE;
+        if (unit.getAttackedTwice()) flags |= ATTACKED_TWICE;
+        if (unit.isProvoked()) flags |= PROVOKED;
+        return flags;
+    }
+
+    private static int[] idsOf(List<Card> cards) {
+        if (cards == null) return new int[0];
+        int[] ids = new int[cards.size()];
+        for (int i = 0; i < ids.length; i++) ids[i] = cards.get(i).getId();
+        return ids;
+    }
+
+    private static int[] costsOf(List<Card> cards) {
+        if (cards == null) return new int[0];
+        int[] costs = new int[cards.size()];
+        for (int i = 0; i < costs.length; i++) costs[i] = cards.get(i).getManacost();
+        return costs;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * The number of units on the board, the units are numbered from 0 in the order of their cells
+     *
+     * @return
+     */
+    public int getUnitCount() {
+        return unitIds.length;
+    }
+
+    public int getUnitId(int unit) {
+        return unitIds[unit];
+    }
+
+    public int getUnitCell(int unit) {
+        return unitCells[unit];
+    }
+
+    public int getUnitOwner(int unit) {
+        return unitOwners[unit];
+    }
+
+    public int getUnitHealth(int unit) {
+        return unitHealth[unit];
+    }
+
+    public int getUnitMaxHealth(int unit) {
+        return unitMaxHealth[unit];
+    }
+
+    public int getUnitAttack(int unit) {
+        return unitAttack[unit];
+    }
+
+    /**
+     * The flags of the unit (MOVED, ATTACKED, ATTACKED_ONCE, ATTACKED_TWICE and PROVOKED)
+     *
+     * @param unit
+     * @return
+     */
+    public int getUnitFlags(int unit) {
+        return unitFlags[unit];
+    }
+
+    /**
+     * The number of the unit on the cell, -1 if the cell is empty
+     *
+     * @param cell
+     * @return
+     */
+    public int unitAt(int cell) {
+        int unit = Arrays.binarySearch(unitCells, cell);
+        return unit < 0 ? -1 : unit;
+    }
+
+    public int getPlayerHealth(int playerID) {
+        return playerHealth[playerID];
+    }
+
+    public int getPlayerMana(int playerID) {
+        return playerMana[playerID];
+    }
+
+    public int[] getHandCards(int playerID) {
+        return handCards[playerID].clone();
+    }
+
+    public int[] getHandCosts(int playerID) {
+        return handCosts[playerID].clone();
+    }
+
+    public int[] getDeckCards(int playerID) {
+        return deckCards[playerID].clone();
+    }
+
+    /**
+     * The number of card ids the card getters below know about, one more than the highest card
+     * id in the hands and decks
+     *
+     * @return
+     */
+    public int getCardCount() {
+        return cardCosts.length;
+    }
+
+    public int getCardCost(int cardID) {
+        return cardCosts[cardID];
+    }
+
+    public int getCardAttack(int cardID) {
+        return cardAttacks[cardID];
+    }
+
+    public int getCardHealth(int cardID) {
+        return cardHealths[cardID];
+    }
+
+    /**
+     * Whether the card summons a unit, if not it is a spell
+     *
+     * @param cardID
+     * @return
+     */
+    public boolean isUnitCard(int cardID) {
+        return unitCards[cardID];
+    }
+
+    public int getTurnPlayer() {
+        return turnPlayer;
+    }
+
+    public int getPlayerTurnNumber() {
+        return playerTurnNumber;
+    }
+
+    public int getCompTurnNumber() {
+        return compTurnNumber;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * The Zobrist hash of the position, the same as GameState.getZobristHash when the snapshot was taken
+     *
+     * @return
+     */
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    // copies of the unit arrays, for a search state to start from
+
+    public int[] getUnitIds() {
+        return unitIds.clone();
+    }
+
+    public int[] getUnitCells() {
+        return unitCells.clone();
+    }
+
+    public int[] getUnitOwners() {
+        return unitOwners.clone();
+    }
+
+    public int[] getUnitHealths() {
+        return unitHealth.clone();
+    }
+
+    public int[] getUnitMaxHealths() {
+        return unitMaxHealth.clone();
+    }
+
+    public int[] getUnitAttacks() {
+        return unitAttack.clone();
+    }
+
+    public int[] getUnitFlagsArray() {
+        return unitFlags.clone();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof GameSnapshot)) return false;
+        GameSnapshot o = (GameSnapshot) other;
+        return width == o.width && height == o.height && turnPlayer == o.turnPlayer
+                && playerTurnNumber == o.playerTurnNumber && compTurnNumber == o.compTurnNumber && gameOver == o.gameOver
+                && Arrays.equals(unitIds, o.unitIds) && Arrays.equals(unitCells, o.unitCells)
+                && Arrays.equals(unitOwners, o.unitOwners) && Arrays.equals(unitHealth, o.unitHealth)
+                && Arrays.equals(unitMaxHealth, o.unitMaxHealth) && Arrays.equals(unitAttack, o.unitAttack)
+                && Arrays.equals(unitFlags, o.unitFlags) && Arrays.equals(playerHealth, o.playerHealth)
+                && Arrays.equals(playerMana, o.playerMana) && Arrays.deepEquals(handCards, o.handCards)
+                && Arrays.deepEquals(handCosts, o.handCosts) && Arrays.deepEquals(deckCards, o.deckCards);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(zobristHash);
+    }
+
+    @Override
+    public String toString() {
+        return "GameSnapshot[" + getUnitCount() + " units, player 1 " + playerHealth[1] + " health " + playerMana[1]
+                + " mana, player 2 " + playerHealth[2] + " health " + playerMana[2] + " mana, turn of player " + turnPlayer + "]";
+    }
+}
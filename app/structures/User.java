@@ -1,39 +1,39 @@
-package structures;
-
-/**
- * Unused
- * @author Dr. Richard McCreadie
- *
- */
-public class User {
-
-	protected String username;
-	protected String password;
-
-	public User() {}
-
-	public User(String username, String password) {
-		super();
-		this.username = username;
-		this.password = password;
-	}
-
-	public String getUsername() {
-		return username;
-	}
-
-	public void setUsername(String username) {
-		this.username = username;
-	}
-
-	public String getPassword() {
-		return password;
-	}
-
-	public void setPassword(String password) {
-		this.password = password;
-	}
-
-
-
+package structures;
+
+/**
+ * Unused
+ * @author Dr. Richard McCreadie
+ *
+ */
+public class User {
+
+	protected String username;
+	protected String password;
+
+	public User() {}
+
+	public User(String username, String password) {
+		super();
+		this.username = username;
+		this.password = password;
+	}
+
+	public String getUsername() {
+		return username;
+	}
+
+	public void setUsername(String username) {
+		this.username = username;
+	}
+
+	public String getPassword() {
+		return password;
+	}
+
+	public void setPassword(String password) {
+		this.password = password;
+	}
+
+
+
 }
\ No newline at end of file
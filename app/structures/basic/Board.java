@@ -9,34 +9,132 @@ import utils.BasicObjectBuilders;
 import utils.StaticConfFiles;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 
 /**
  * The board class will contain tile objects stored in a 2D array data structure and will contain
  * methods to set the constraints of the available moves and total size of the board (9x5).
  * The Board object consists of several tile objects.
+ *
+ * Alongside the tiles the board keeps bitboards, one bit per cell (cell index is x*height+y)
+ * held in an array of longs, so the 45 cells of the standard board fit in one long and a 64x64
+ * board (see Board(width, height)) takes 64. There is one for the cells with a unit on them and
+ * one for each player's units, kept up to date by Tile.setUnitToTile. The cells a unit
+ * can move to or attack from each cell are worked out once (see BoardGeometry), so the queries
+ * below are a few bit operations or a walk over a fixed list of cells, and the result is only
+ * turned into Tile objects at the end. Iterating the bits from lowest to highest visits the cells
+ * column by column, the same order as the loops the queries used before.
+ *
+ * The queries do not send anything to the front-end or sleep, and the ones without an ActorRef
+ * parameter (getTilesWithUnits(player), getMoveAndAttackTiles(tile), ...) are what the AI and
+ * validation code should use. Where units can move and attack is worked out for all of them at
+ * once and kept until the board changes (see getReachability). Drawing is done by the board's BoardRenderer (getRenderer), the
+ * drawing methods here and the query methods taking an ActorRef are kept for existing callers.
  */
 
 public class Board {
 
     Tile[][] tiles = null;
 
+    // draws the tiles on the front-end, everything that sends a command or sleeps is in there
+    BoardRenderer renderer = null;
+
+    int width;
+    int height;
+    BoardGeometry geometry = null; // the neighbours and masks of every cell, shared by boards of the same size
+
+    int cellCount;
+    long[] occupied = null; // cells with a unit on them
+    long[][] playerUnits = null; // cells with player 1's (index 1) and player 2's (index 2) units on them
+    int[] unitCells = new int[0]; // the cell each unit is on, by unit id, -1 if it is not on the board
+    int[] cellOwners = null; // the owner recorded for the unit on each cell when it was put there, 0 if empty
+
+    // summon zones: for each player, how many of their units are next to each cell, and a bitboard
+    // of the cells next to at least one of them (occupied or not)
+    int[][] summonCover = null;
+    long[][] summonZones = null;
+
+    // goes up by one every time a unit is put on or taken off a tile, so results worked out from
+    // the board (see getReachability) know when they are out of date
+    long version = 0;
+    Reachability reachability = null;
+
+    // Zobrist hash of the units on the board (see Zobrist), and the key each cell added to it
+    long hash = 0;
+    long[] cellHashes = null;
+
+    /**
+     * Creates a 9x5 board (AppConstants.boardWidth x boardHeight) and its tiles without drawing
+     * anything, e.g. for the AI or tests
+     */
+    public Board() {
+        this(AppConstants.boardWidth, AppConstants.boardHeight);
+    }
+
+    /**
+     * Creates a board of any size and its tiles without drawing anything, for custom scenarios
+     * on larger maps. The front-end only has room for the standard 9x5 board
+     *
+     * @param width
+     * @param height
+     */
+    public Board(int width, int height) {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException("A board must be at least 1x1, not "+width+"x"+height);
+        }
+        this.width = width;
+        this.height = height;
+        cellCount = width * height;
+        tiles = new Tile[width][height];
+        geometry = BoardGeometry.forSize(width, height);
+        renderer = new BoardRenderer(this);
+        createTiles();
+    }
+
+    /**
+     * Creates the board and draws its tiles on the front-end
+     *
+     * @param out
+     */
     public Board(ActorRef out) {
-        tiles = new Tile[AppConstants.boardWidth][AppConstants.boardHeight];
-        setTiles(out);
+        this();
+        renderer.drawTiles(out);
     }
 
     /**
-     * This method creates tile objects and assign those tiles to the board object.
+     * This method creates tile objects and assign those tiles to the board object,
+     * and draws them on the front end. Every tile is drawn again, whatever the renderer
+     * had sent for the old tiles.
      *
      * @param out
      */
 
     public void setTiles(ActorRef out) {
+        createTiles();
+        renderer.resetRenderedModes();
+        renderer.drawTiles(out);
+    }
+
+    /**
+     * This method creates tile objects and assign those tiles to the board object.
+     */
+    void createTiles() {
 
         // Create a tile object
         Tile tile;
 
+        // the new tiles are empty
+        int words = wordsFor(cellCount);
+        occupied = new long[words];
+        playerUnits = new long[3][words];
+        unitCells = new int[0];
+        cellOwners = new int[cellCount];
+        summonCover = new int[3][cellCount];
+        summonZones = new long[3][words];
+        cellHashes = new long[cellCount];
+        hash = 0;
+
         // Iterate through the tiles array
         for (int i = 0; i < tiles.length; i++) {
             for (int j = 0; j < tiles[i].length; j++) {
@@ -45,16 +143,29 @@ public class Board {
 
                 // Assign that tile object to the array position
                 tiles[i][j] = tile;
-
-                // Draw the tile on the front end
-//                BasicCommands.drawTile(out, tile, 0);
-                drawTileWithSleep(out, tile, 0, AppConstants.drawTileSleepTime);
-
+                tile.board = this;
             }
         }
 
     }
 
+    /**
+     * The renderer that draws this board's tiles on the front-end
+     *
+     * @return
+     */
+    public BoardRenderer getRenderer() {
+        return renderer;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
 
     /**
      * Getter method to return tiles objects of a board
@@ -77,144 +188,506 @@ public class Board {
         return tiles[x][y];
     }
 
-
     /**
-     * This method will take in a tile and return an ArrayList of the two cardinal and
-     * one diagonal tiles available for a standard move in the game
+     * The bit index of a cell in the bitboards
      *
-     * @param out
-     * @param tile
+     * @param x
+     * @param y
      * @return
      */
-    public ArrayList<Tile> getAdjacentTiles(ActorRef out, Tile tile) {
-
-        // arrayList to store the available tiles
-        ArrayList<Tile> adjacentTiles = new ArrayList<Tile>();
-
-        // tile co-ordinates
-        int x = tile.getTilex();
-        int y = tile.getTiley();
+    public int cellIndex(int x, int y) {
+        return x * height + y;
+    }
 
-        // for the cardinal tiles I will check if the tile if either 2 or 1 tiles away from the edge of the board so
-        // we avoid any nullPointExceptions
+    public int cellIndex(Tile tile) {
+        return cellIndex(tile.getTilex(), tile.getTiley());
+    }
 
-        // checking for the top-most tiles
-        if (y > 1) {
-            adjacentTiles.add(returnTile(x, y - 1));
-            adjacentTiles.add(returnTile(x, y - 2));
-        } else if (y == 1) {
-            adjacentTiles.add(returnTile(x, y - 1));
+    /**
+     * Called by Tile.setUnitToTile when the unit on one of this board's tiles changes. The owner
+     * is read from the unit here, so a unit's isPlayer must be set before it is put on a tile.
+     * This is also where the cell of each unit is kept (see getTileOfUnit), so it follows units
+     * as they are summoned, moved (moveUnit, windshrikeMove) and removed when they die
+     *
+     * @param tile
+     * @param previous the unit that was on the tile, null if it was empty
+     * @param unit the unit now on the tile, null if it is empty
+     */
+    void unitChanged(Tile tile, Unit previous, Unit unit) {
+        version++;
+        int cell = cellIndex(tile);
+        if (has(occupied, cell)) {
+            updateSummonZone(cellOwners[cell], cell, -1);
+            cellOwners[cell] = 0;
         }
-
-        // checking for the right-most tiles
-        if (x < AppConstants.boardWidth - 2) {
-            adjacentTiles.add(returnTile(x + 1, y));
-            adjacentTiles.add(returnTile(x + 2, y));
-        } else if (x == AppConstants.boardWidth - 2) {
-            adjacentTiles.add(returnTile(x + 1, y));
+        remove(occupied, cell);
+        for (int i = 0; i < playerUnits.length; i++) {
+            remove(playerUnits[i], cell);
         }
 
-        // checking for the bottom-most tiles
-        if (y < AppConstants.boardHeight - 2) {
-            adjacentTiles.add(returnTile(x, y + 1));
-            adjacentTiles.add(returnTile(x, y + 2));
-        } else if (y == AppConstants.boardHeight - 2) {
-            adjacentTiles.add(returnTile(x, y + 1));
+        // a unit moved to another tile before being taken off this one keeps its new cell
+        if (previous != null && previous != unit && getUnitCell(previous.getId()) == cell) {
+            unitCells[previous.getId()] = -1;
         }
 
-        // checking for the left-most tiles
-        if (x > 1) {
-            adjacentTiles.add(returnTile(x - 1, y));
-            adjacentTiles.add(returnTile(x - 2, y));
-        } else if (x == 1) {
-            adjacentTiles.add(returnTile(x - 1, y));
+        if (unit != null) {
+            add(occupied, cell);
+            int owner = unit.getIsPlayer();
+            if (owner >= 0 && owner < playerUnits.length) {
+                add(playerUnits[owner], cell);
+                cellOwners[cell] = owner;
+                updateSummonZone(owner, cell, 1);
+            }
+            setUnitCell(unit.getId(), cell);
+            unit.board = this;
         }
+        updateHash(cell, unit);
+    }
 
-        // top-right
-        if (x < AppConstants.boardWidth - 1 && y > 0) {
-            adjacentTiles.add(returnTile(x + 1, y - 1));
-        }
+    // replaces the cell's key in the hash with the key of the unit now on it
+    private void updateHash(int cell, Unit unit) {
+        hash ^= cellHashes[cell];
+        cellHashes[cell] = unit == null ? 0 : Zobrist.unitKey(cell, unit);
+        hash ^= cellHashes[cell];
+    }
 
-        // bottom-right
-        if (x < AppConstants.boardWidth - 1 && y < AppConstants.boardHeight - 1) {
-            adjacentTiles.add(returnTile(x + 1, y + 1));
+    /**
+     * Called by a unit on this board when its id, owner, health or attack changes (e.g. it is
+     * damaged or healed), so the hash follows it
+     *
+     * @param unit
+     */
+    void unitStatsChanged(Unit unit) {
+        int cell = getUnitCell(unit.getId());
+        if (cell >= 0 && tileAt(cell).getUnitFromTile() == unit) {
+            updateHash(cell, unit);
         }
+    }
 
-        // bottom-left
-        if (x > 0 && y < AppConstants.boardHeight - 1) {
-            adjacentTiles.add(returnTile(x - 1, y + 1));
+    /**
+     * The Zobrist hash of the units on the board, kept up to date as units are put on the board,
+     * moved, damaged and removed. GameState.getZobristHash adds the hands, mana and turn
+     *
+     * @return
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Works the hash of the units on the board out from scratch, it should always equal getHash
+     *
+     * @return
+     */
+    public long computeHash() {
+        long fresh = 0;
+        for (int cell = 0; cell < cellCount; cell++) {
+            Unit unit = tileAt(cell).getUnitFromTile();
+            if (unit != null) fresh ^= Zobrist.unitKey(cell, unit);
         }
+        return fresh;
+    }
 
-        // top-left
-        if (x > 0 && y > 0) {
-            adjacentTiles.add(returnTile(x - 1, y - 1));
+    // adds (change 1) or removes (change -1) a unit of the owner on the cell from the owner's summon zone
+    private void updateSummonZone(int owner, int cell, int change) {
+        if (owner <= 0 || owner >= summonZones.length) return;
+        int[] cover = summonCover[owner];
+        for (int neighbour : geometry.summonCells[cell]) {
+            cover[neighbour] += change;
+            if (cover[neighbour] > 0) add(summonZones[owner], neighbour);
+            else remove(summonZones[owner], neighbour);
         }
+    }
 
-        return adjacentTiles;
+    // the bitboards are arrays of longs, 64 cells to a long, so a board can have any number of cells
+
+    static int wordsFor(int cells) {
+        return (cells + 63) >>> 6;
     }
 
-    public ArrayList<Tile> summonableTiles(ActorRef out, Tile tile) { // reteive list of summonable tiles
+    static boolean has(long[] set, int cell) {
+        return (set[cell >>> 6] & (1L << cell)) != 0;
+    }
 
-        // arrayList to store the available tiles
-        ArrayList<Tile> adjacentTiles = new ArrayList<Tile>();
+    static void add(long[] set, int cell) {
+        set[cell >>> 6] |= 1L << cell;
+    }
 
-        // tile co-ordinates
-        int x = tile.getTilex();
-        int y = tile.getTiley();
+    static void remove(long[] set, int cell) {
+        set[cell >>> 6] &= ~(1L << cell);
+    }
 
+    private int getUnitCell(int unitID) {
+        if (unitID < 0 || unitID >= unitCells.length) return -1;
+        return unitCells[unitID];
+    }
 
-        // checking for the left-most tiles
-        if (x > 0) {
-            adjacentTiles.add(returnTile(x - 1, y));
-        }
-        
-        
-        // checking for the top-most tiles
-        if (y > 0) {
-            adjacentTiles.add(returnTile(x, y - 1));
-        }
-        
-        // checking for the bottom-most tiles
-        if (y < AppConstants.boardHeight - 1) {
-            adjacentTiles.add(returnTile(x, y + 1));
+    private void setUnitCell(int unitID, int cell) {
+        if (unitID < 0) return;
+        if (unitID >= unitCells.length) {
+            int oldLength = unitCells.length;
+            unitCells = Arrays.copyOf(unitCells, Math.max(unitID + 1, oldLength * 2));
+            Arrays.fill(unitCells, oldLength, unitCells.length, -1);
         }
+        unitCells[unitID] = cell;
+    }
 
-        // checking for the right-most tiles
-        if (x < AppConstants.boardWidth - 1) {
-            adjacentTiles.add(returnTile(x + 1, y));
+    /**
+     * Returns the tile the unit with the given id is on, whichever player it belongs to, or null
+     * if it is not on the board
+     *
+     * @param unitID
+     * @return
+     */
+    public Tile getTileOfUnit(int unitID) {
+        int cell = getUnitCell(unitID);
+        if (cell < 0) return null;
+        Tile tile = tileAt(cell);
+        Unit unit = tile.getUnitFromTile();
+        return (unit != null && unit.getId() == unitID) ? tile : null;
+    }
+
+    /**
+     * Whether there is a unit on the cell
+     *
+     * @param cell
+     * @return
+     */
+    public boolean isOccupied(int cell) {
+        return has(occupied, cell);
+    }
+
+    /**
+     * Whether there is one of the given player's units on the cell
+     *
+     * @param playerID
+     * @param cell
+     * @return
+     */
+    public boolean isUnitOf(int playerID, int cell) {
+        return playerID >= 0 && playerID < playerUnits.length && has(playerUnits[playerID], cell);
+    }
+
+    /**
+     * A copy of the bitboard of the cells with a unit on them, 64 cells to each long
+     *
+     * @return
+     */
+    public long[] getOccupiedWords() {
+        return occupied.clone();
+    }
+
+    /**
+     * A copy of the bitboard of the cells with one of the given player's units on them
+     *
+     * @param playerID
+     * @return
+     */
+    public long[] getUnitWords(int playerID) {
+        if (playerID < 0 || playerID >= playerUnits.length) return new long[occupied.length];
+        return playerUnits[playerID].clone();
+    }
+
+    /**
+     * A copy of the bitboard of the cells next to any of the player's units, whether there is
+     * a unit on them or not. It is kept up to date as units are summoned, moved and removed, so
+     * it is not worked out again for each query
+     *
+     * @param playerID
+     * @return
+     */
+    public long[] getSummonZoneWords(int playerID) {
+        if (playerID <= 0 || playerID >= summonZones.length) return new long[occupied.length];
+        return summonZones[playerID].clone();
+    }
+
+    // the single long versions below only work for boards of up to 64 cells, like the standard 9x5 board
+
+    private void checkFitsInLong() {
+        if (cellCount > 64) {
+            throw new IllegalStateException("A "+width+"x"+height+" board does not fit in one long, use the long[] versions");
         }
+    }
 
-       
+    /**
+     * Bitboard of the cells with a unit on them
+     *
+     * @return
+     */
+    public long getOccupied() {
+        checkFitsInLong();
+        return occupied[0];
+    }
+
+    /**
+     * Bitboard of the cells with one of the given player's units on them
+     *
+     * @param playerID
+     * @return
+     */
+    public long getUnitMask(int playerID) {
+        checkFitsInLong();
+        if (playerID < 0 || playerID >= playerUnits.length) return 0;
+        return playerUnits[playerID][0];
+    }
+
+    /**
+     * Bitboard of the cells a unit on the given cell can move to, ignoring other units
+     *
+     * @param cell
+     * @return
+     */
+    public long getMoveMask(int cell) {
+        checkFitsInLong();
+        return geometry.moveMasks[cell];
+    }
+
+    /**
+     * Bitboard of the eight cells around the given cell, where a unit on it can attack and
+     * where its owner can summon
+     *
+     * @param cell
+     * @return
+     */
+    public long getAttackMask(int cell) {
+        checkFitsInLong();
+        return geometry.attackMasks[cell];
+    }
+
+    /**
+     * Bitboard of the cells the given player can summon a unit on: the empty cells next to
+     * any of their units
+     *
+     * @param player
+     * @return
+     */
+    public long getSummonMask(Player player) {
+        return getSummonZone(player.getID()) & ~getOccupied();
+    }
+
+    /**
+     * Bitboard of the cells next to any of the player's units, whether there is a unit on them
+     * or not (see getSummonZoneWords)
+     *
+     * @param playerID
+     * @return
+     */
+    public long getSummonZone(int playerID) {
+        checkFitsInLong();
+        if (playerID <= 0 || playerID >= summonZones.length) return 0;
+        return summonZones[playerID][0];
+    }
+
+    /**
+     * Whether the tile is next to one of the player's units, the same as
+     * PerformAction.getSummonableTiles(...).contains(tile) used to be
+     *
+     * @param player
+     * @param tile
+     * @return
+     */
+    public boolean isInSummonZone(Player player, Tile tile) {
+        int playerID = player.getID();
+        return playerID > 0 && playerID < summonZones.length && has(summonZones[playerID], cellIndex(tile));
+    }
+
+    /**
+     * The tiles next to any of the player's units, each once, column by column
+     *
+     * @param player
+     * @return
+     */
+    public ArrayList<Tile> getSummonZoneTiles(Player player) {
+        int playerID = player.getID();
+        if (playerID <= 0 || playerID >= summonZones.length) return new ArrayList<Tile>();
+        return tilesOf(summonZones[playerID]);
+    }
 
-        // bottom-left
-        if (x > 0 && y < AppConstants.boardHeight - 1) {
-            adjacentTiles.add(returnTile(x - 1, y + 1));
+    /**
+     * The neighbours and masks of every cell of this board, for iterating over a pattern
+     * without building a list of tiles (e.g. geometry.getSummonCells(cellIndex(tile)) with tileAt)
+     *
+     * @return
+     */
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * The tile with the given cell index
+     *
+     * @param cell
+     * @return
+     */
+    public Tile tileAt(int cell) {
+        return tiles[cell / height][cell % height];
+    }
+
+    /**
+     * Turns a list of cell indexes into the list of their tiles, in the same order
+     *
+     * @param cells
+     * @return
+     */
+    public ArrayList<Tile> tilesOf(int[] cells) {
+        ArrayList<Tile> list = new ArrayList<Tile>(cells.length);
+        for (int cell : cells) {
+            list.add(tileAt(cell));
         }
+        return list;
+    }
+
+    /**
+     * Turns a bitboard into the list of its tiles, lowest cell first
+     *
+     * @param mask
+     * @return
+     */
+    public ArrayList<Tile> tilesOf(long mask) {
+        return tilesOf(new long[] {mask});
+    }
 
-        // top-left
-        if (x > 0 && y > 0) {
-            adjacentTiles.add(returnTile(x - 1, y - 1));
+    /**
+     * Turns a bitboard of any size into the list of its tiles, lowest cell first. Only the
+     * words with a cell in them cost more than a check, so this is linear in the number of tiles
+     *
+     * @param words
+     * @return
+     */
+    public ArrayList<Tile> tilesOf(long[] words) {
+        int count = 0;
+        for (long word : words) count += Long.bitCount(word);
+        ArrayList<Tile> list = new ArrayList<Tile>(count);
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                list.add(tileAt((i << 6) + Long.numberOfTrailingZeros(word)));
+                word &= word - 1;
+            }
         }
-        
-        // top-right
-        if (x < AppConstants.boardWidth - 1 && y > 0) {
-            adjacentTiles.add(returnTile(x + 1, y - 1));
+        return list;
+    }
+
+
+    /**
+     * This method will take in a tile and return an ArrayList of the two cardinal and
+     * one diagonal tiles available for a standard move in the game
+     *
+     * @param out
+     * @param tile
+     * @return
+     */
+    public ArrayList<Tile> getAdjacentTiles(Tile tile) {
+
+        // up, right, down and left (two tiles each), then top-right, bottom-right, bottom-left and top-left
+        return tilesOf(geometry.adjacentCells[cellIndex(tile)]);
+    }
+
+    public ArrayList<Tile> getAdjacentTiles(ActorRef out, Tile tile) {
+        return getAdjacentTiles(tile);
+    }
+
+    public ArrayList<Tile> summonableTiles(Tile tile) { // reteive list of summonable tiles
+
+        // left, up, down, right, then bottom-left, top-left, top-right and bottom-right
+        return tilesOf(geometry.summonCells[cellIndex(tile)]);
+    }
+
+    public ArrayList<Tile> summonableTiles(ActorRef out, Tile tile) {
+        return summonableTiles(tile);
+    }
+
+    /**
+     * Whether a unit on the from tile could move to the to tile if nothing was in the way, the
+     * same as getAdjacentTiles(out, from).contains(to) without building the list (see
+     * isReachable for the check with the units in the way)
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    public boolean isInMoveRange(Tile from, Tile to) {
+        int distance = Math.abs(from.getTilex() - to.getTilex()) + Math.abs(from.getTiley() - to.getTiley());
+        return distance > 0 && distance <= 2;
+    }
+
+    /**
+     * Whether two tiles are next to each other (including diagonally), the same as
+     * summonableTiles(out, a).contains(b) without building the list
+     *
+     * @param a
+     * @param b
+     * @return
+     */
+    public boolean isNextTo(Tile a, Tile b) {
+        return Math.max(Math.abs(a.getTilex() - b.getTilex()), Math.abs(a.getTiley() - b.getTiley())) == 1;
+    }
+
+
+    
+    /**
+     * The number of times a unit has been put on or taken off a tile of this board
+     *
+     * @return
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * The cells every unit on the board can move to and attack, taking the units in the way
+     * into account. It is worked out the first time it is needed after the board changes and
+     * shared until the next change, so the highlighting, move validation and the AI use the
+     * same result
+     *
+     * @return
+     */
+    public Reachability getReachability() {
+        if (reachability == null || reachability.getVersion() != version) {
+            reachability = new Reachability(this);
         }
+        return reachability;
+    }
+
+    /**
+     * Whether the unit on the from tile can move to the to tile, with no enemy unit in the way
+     * (see Reachability)
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    public boolean isReachable(Tile from, Tile to) {
+        return getReachability().canReach(cellIndex(from), cellIndex(to));
+    }
 
-        // bottom-right
-        if (x < AppConstants.boardWidth - 1 && y < AppConstants.boardHeight - 1) {
-            adjacentTiles.add(returnTile(x + 1, y + 1));
+    /** This method will take a tile and finds the tiles the unit on it can move to and the
+     * enemy units it can attack, from where it is or after a move (see Reachability).
+     *
+     * The tiles come column by column, each tile once: the empty tiles (to move to) and the
+     * tiles with an enemy unit (to attack). For a tile without a unit it returns the empty tiles
+     * of the diamond around it.
+     *
+     * @param tile the tile of the unit
+     * @return
+     */
+    public ArrayList<Tile> getMoveAndAttackTiles(Tile tile) {
+        int cell = cellIndex(tile);
+        if (tile.getUnitFromTile() != null) {
+            return tilesOf(getReachability().getMoveAndAttackCells(cell));
         }
 
+        ArrayList<Tile> adjacentTiles = new ArrayList<Tile>();
+        for (int next : geometry.diamondCells[cell]) {
+            if (!has(occupied, next)) adjacentTiles.add(tileAt(next));
+        }
         return adjacentTiles;
     }
 
-
-    
     /** This method will take a tile and finds it's adjacent tiles to move and it will find the 
      * attackable unit (if present) to those adjacent tiles and highlight those tiles.
      * 
-     * Note: if mode==0, this function only returns the tiles list 
+     * Note: if mode==0, this function only returns the tiles list (see getMoveAndAttackTiles)
      * 		 if mode==1, this function returns the tiles list and updates front end from here itself.
      * 
      * @param mode --> if mode==1, highlighitng | if mode==0, clearhighlighting
@@ -225,91 +698,14 @@ public class Board {
      * @param gameState
      * @return
      */
-    
-
 	public ArrayList<Tile> highlightTilesMoveAndAttack(int mode, Player player, ActorRef out, Tile tile, GameState gameState) {
 
-		
-		 // arrayList to store the available tiles
-        ArrayList<Tile> adjacentTiles = new ArrayList<Tile>();
-
-		 // tile co-ordinates
-        int x = tile.getTilex();
-        int y = tile.getTiley();
-        int newx;
-        int newy;
-        Tile newTile;
+        ArrayList<Tile> adjacentTiles = getMoveAndAttackTiles(tile);
 
-        
-        int idx=0;
-        for(int i=-2;i<3;i++)
-        {
-        	
-        	for(int j=(-1*idx);j<=idx;j++)
-        	{
-        		
-        		newx=x+i;
-        		newy=y+j;
-
-        		if((newx>=0 && newx<AppConstants.boardWidth)&&(newy>=0 && newy<AppConstants.boardHeight))
-        		{
-        			newTile=returnTile(newx, newy);
-            		
-        			if(newTile!=tile) // No need to highlight starttile
-        			{
-        				if(j==(-1*idx) || j==idx) // Check for attackable units
-        				{
-        					
-        					if(newTile.getUnitFromTile()==null)
-        					{
-        						ArrayList<Tile> attackableTiles=getAdjacentTilesToAttack(player, out, tile,newTile);
-        						adjacentTiles.addAll(attackableTiles);
-//    							gameState.board.highlightTilesRed(out, attackableTiles);
-
-            					if(mode==1) //highlight , else clear
-            						gameState.board.highlightTilesRed(out,attackableTiles); // update front end
-        					}
-        					
-
-        				}
-
-        				
-        				if(newTile.getUnitFromTile()!=null)
-        				{
-	        				if(newTile.getUnitFromTile().getIsPlayer()!=tile.getUnitFromTile().getIsPlayer())
-	        				{
-      					
-	            				adjacentTiles.add(newTile);
-
-	        					if(mode==1)
-	        					{
-	        			                drawTileWithSleep(out, newTile, 2, AppConstants.drawTileSleepTime);
-	        						
-	        					}
-	        						
-	        				}
-        				}else {
-            				adjacentTiles.add(newTile);
-
-        					if(mode==1)
-        					{
-        						drawTileWithSleep(out, newTile, 1, AppConstants.drawTileSleepTime);
-        					}
-
-        				}
-    					
-        			}
-
-        		}
-
-        		
-        	}
-        	if(i<0)
-        		idx++;
-        	else
-        		idx--;
+        if (mode == 1) {
+            renderer.highlightMoveAndAttack(out, adjacentTiles); // update front end
         }
-        
+
         return adjacentTiles;
 	}
 
@@ -321,47 +717,19 @@ public class Board {
      * @param tile
      * @return
      */
-    public ArrayList<Tile> getAdjacentTilesToAttack(Player player,ActorRef out, Tile tile) {
-
-        // arrayList to store the available tiles
-        ArrayList<Tile> adjacentTiles = new ArrayList<Tile>();
-
-        // tile co-ordinates
-        int x = tile.getTilex();
-        int y = tile.getTiley();
-        int newx;
-        int newy;
-        Tile newTile;
-        
-        for(int i=-1;i<2;i++)
-        {
-        	for(int j=-1;j<2;j++)
-        	{
-        		
-        		newx=x+i;
-        		newy=y+j;
+    public ArrayList<Tile> getAdjacentTilesToAttack(Player player, Tile tile) {
 
-        		if((newx>=0 && newx<AppConstants.boardWidth)&&(newy>=0 && newy<AppConstants.boardHeight))
-        		{
-        			newTile=returnTile(newx, newy);
-
-        			if(newTile!=tile && newTile.getUnitFromTile()!=null) // Check if the attackable tile has any unit present
-        			{
-
-        				if(newTile.getUnitFromTile().getIsPlayer()!=player.getID())
-            			adjacentTiles.add(newTile);
-
-        			}
-
-        		}
-
-        		
-        	}
+        // the units around the tile that are not the player's, column by column
+        ArrayList<Tile> attackable = new ArrayList<Tile>();
+        for (int cell : geometry.attackCells[cellIndex(tile)]) {
+            if (has(occupied, cell) && !isUnitOf(player.getID(), cell)) attackable.add(tileAt(cell));
         }
 
+        return attackable;
+    }
 
-
-        return adjacentTiles;
+    public ArrayList<Tile> getAdjacentTilesToAttack(Player player,ActorRef out, Tile tile) {
+        return getAdjacentTilesToAttack(player, tile);
     }
 
     /**
@@ -378,48 +746,25 @@ public class Board {
      * @param tile
      * @return
      */
-    public ArrayList<Tile> getAdjacentTilesToAttack(Player player,ActorRef out, Tile startTile,Tile tile) {
+    public ArrayList<Tile> getAdjacentTilesToAttack(Tile startTile, Tile tile) {
 
-        // arrayList to store the available tiles
-        ArrayList<Tile> adjacentTiles = new ArrayList<Tile>();
-
-        // tile co-ordinates
-        int x = tile.getTilex();
-        int y = tile.getTiley();
-        int newx;
-        int newy;
-        Tile newTile;
-        
-        for(int i=-1;i<2;i++)
-        {
-        	for(int j=-1;j<2;j++)
-        	{
-        		
-        		newx=x+i;
-        		newy=y+j;
-
-        		if((newx>=0 && newx<AppConstants.boardWidth)&&(newy>=0 && newy<AppConstants.boardHeight))
-        		{
-
-        			newTile=returnTile(newx, newy);
-
-        			if(newTile!=startTile && newTile!=tile && newTile.getUnitFromTile()!=null) // Check if the attackable tile has any unit present
-        			{
-
-        				if(newTile.getUnitFromTile().getIsPlayer()!=startTile.getUnitFromTile().getIsPlayer())
-        					adjacentTiles.add(newTile);
-
-        			}
-
-        		}
-
-        		
-        	}
+        if (startTile.getUnitFromTile() == null) {
+            return new ArrayList<Tile>();
         }
 
+        // the units around the tile that are not on the same side as the one on the startTile, column by column
+        int owner = startTile.getUnitFromTile().getIsPlayer();
+        int startCell = cellIndex(startTile);
+        ArrayList<Tile> attackable = new ArrayList<Tile>();
+        for (int cell : geometry.attackCells[cellIndex(tile)]) {
+            if (cell != startCell && has(occupied, cell) && !isUnitOf(owner, cell)) attackable.add(tileAt(cell));
+        }
 
+        return attackable;
+    }
 
-        return adjacentTiles;
+    public ArrayList<Tile> getAdjacentTilesToAttack(Player player,ActorRef out, Tile startTile,Tile tile) {
+        return getAdjacentTilesToAttack(startTile, tile);
     }
 
     /**
@@ -438,98 +783,32 @@ public class Board {
      * @return
      */
     
-	public ArrayList<Tile> retrieveAdjacentTilesToAttackPosition(ActorRef out, Tile tile) {
-
-		// arrayList to store the available tiles
-        ArrayList<Tile> adjacentTiles = new ArrayList<Tile>();
-
-        // tile co-ordinates
-        int x = tile.getTilex();
-        int y = tile.getTiley();
-        int newx;
-        int newy;
-        Tile newTile;
-        
-        for(int i=-1;i<2;i++)
-        {
-        	for(int j=-1;j<2;j++)
-        	{
-        		
-        		newx=x+i;
-        		newy=y+j;
-//        		AppConstants.printLog("New xy: ["+newx+","+newy+"]");
-
-        		if((newx>=0 && newx<AppConstants.boardWidth)&&(newy>=0 && newy<AppConstants.boardHeight))
-        		{
-        			newTile=returnTile(newx, newy);
-
-        			if(newTile!=tile) // Check if the attackable tile has any unit present
-        			{
-              			adjacentTiles.add(newTile);
-
-        			}
-
-        		}
-
-        		
-        	}
-        }
-
+	public ArrayList<Tile> retrieveAdjacentTilesToAttackPosition(Tile tile) {
 
+        return tilesOf(geometry.attackCells[cellIndex(tile)]);
+	}
 
-        return adjacentTiles;
+	public ArrayList<Tile> retrieveAdjacentTilesToAttackPosition(ActorRef out, Tile tile) {
+        return retrieveAdjacentTilesToAttackPosition(tile);
 	}
 
 	
-    /**
-     * method to iterate through the arrayList of adjacent tiles and drawTile() with white highlighting
-     *
-     * @param out
-     * @param tiles
-     */
-    public void highlightTilesWhite(ActorRef out, ArrayList<Tile> tiles) {
-        for (Tile tile : tiles) {
-            if (tile.getUnitFromTile() == null) {  // i added this condition as tiles with units should never be highlighted in white only red
-//                BasicCommands.drawTile(out, tile, 1);
-                drawTileWithSleep(out, tile, 1, AppConstants.drawTileSleepTime);
+    // The drawing methods below are kept for the code that calls them on the board, they are done by the renderer
 
-            }
-            	
-        }
+    public void highlightTilesWhite(ActorRef out, ArrayList<Tile> tiles) {
+        renderer.highlightTilesWhite(out, tiles);
     }
 
-    /**
-     * method to iterate through the arrayList of adjacent tiles and drawTile() with red highlighting
-     *
-     * @param out
-     * @param tiles
-     */
     public void highlightTilesRed(ActorRef out, ArrayList<Tile> tiles) {
-
-        for (Tile tile : tiles) {
-        	
-//            BasicCommands.drawTile(out, tile, 2);
-            drawTileWithSleep(out, tile, 2, AppConstants.drawTileSleepTime);
-
-        }
+        renderer.highlightTilesRed(out, tiles);
     }
 
     public void highlightTilesWhiteSpell(ActorRef out, ArrayList<Tile> tiles){
-        for (Tile tile : tiles){
-            if (tile.getUnitFromTile() != null){
-                drawTileWithSleep(out, tile, 1, AppConstants.drawTileSleepTime);
-            }
-        }
+        renderer.highlightTilesWhiteSpell(out, tiles);
     }
 
- 
-    public void clearTileHighlighting(ActorRef out, ArrayList<Tile> tiles) {  // method to clear the highlighted tiles changed to git rid of BufferOverflow Exception
-        for (Tile tile : tiles) {
-//            BasicCommands.drawTile(out, tile, 0);
-            drawTileWithSleep(out, tile, 0, AppConstants.drawTileSleepTime);
-
-        }
-       // AppConstants.callSleep(50);//added this in order to stop bufferoverflow
+    public void clearTileHighlighting(ActorRef out, ArrayList<Tile> tiles) {  // method to clear the highlighted tiles
+        renderer.clearTileHighlighting(out, tiles);
     }
 
     public void addUnitToBoard(int x, int y, Unit unit) {
@@ -640,11 +919,31 @@ public class Board {
 
     }
 
+    // returns the tiles with one of the player's units on them
+    public ArrayList<Tile> getTilesWithUnits(Player player) {
+        int playerID = player.getID();
+        if (playerID < 0 || playerID >= playerUnits.length) return new ArrayList<Tile>();
+        return tilesOf(playerUnits[playerID]);
+    }
+
+    // returns all tiles on the board without units
+    public ArrayList<Tile> getTilesWithoutUnits() {
+        ArrayList<Tile> tilesWithoutUnits = new ArrayList<Tile>(cellCount);
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (!has(occupied, cell)) tilesWithoutUnits.add(tileAt(cell));
+        }
+        return tilesWithoutUnits;
+    }
+
     // check whether a tile has a unit on it and returns a list of tiles occupied by units
     // i have added the condition of unit id and player id being the same as for now at least i cannot access only the player1's units without a different method
     // so i have set player1 units and player 1 id to 1 and same for player2 to 2.
     public ArrayList<Tile> getTilesWithUnits(ActorRef out, Tile[][] tiles, Player player) {
 
+        if (tiles == this.tiles) {
+            return getTilesWithUnits(player);
+        }
+
         ArrayList<Tile> tilesWithUnits = new ArrayList<>();
 
         for (int i = 0; i < tiles.length; i++) {
@@ -653,7 +952,6 @@ public class Board {
                 if (tile.getUnitFromTile() != null ) {
                     if(tile.getUnitFromTile().getIsPlayer() == player.getID()) {
                         tilesWithUnits.add(tile);
-                        AppConstants.callSleep(2);
                     }
                 }
             }
@@ -664,13 +962,15 @@ public class Board {
     
     // Method similar to getTilesWithUnits but returns all tiles on the board without units
     public ArrayList<Tile> getTilesWithoutUnits(ActorRef out, Tile[][] tiles, Player player) {
-    	
+
+        if (tiles == this.tiles) {
+            return getTilesWithoutUnits();
+        }
 
         ArrayList<Tile> tilesWithoutUnits = new ArrayList<>();
        
-        for (int i = 0; i < AppConstants.boardWidth; i++) {
-            for (int j = 0; j < AppConstants.boardHeight; j++) {
-//            	AppConstants.callSleep(50);
+        for (int i = 0; i < tiles.length; i++) {
+            for (int j = 0; j < tiles[i].length; j++) {
                 Tile tile = tiles[i][j];
                 if (tile.getUnitFromTile() == null) {
                     tilesWithoutUnits.add(tile);
@@ -681,8 +981,8 @@ public class Board {
     }
     public ArrayList<Tile> allTiles() {
         ArrayList<Tile> allTiles = new ArrayList<>();
-        for (int i = 0; i < AppConstants.boardWidth; i++) {
-            for (int j = 0; j < AppConstants.boardHeight; j++) {
+        for (int i = 0; i < width; i++) {
+            for (int j = 0; j < height; j++) {
                 allTiles.add(tiles[i][j]);
             }
         }
@@ -690,7 +990,22 @@ public class Board {
     }
 
     public void drawTileWithSleep(ActorRef out,Tile tile,int mode,long time) {
-    	BasicCommands.drawTile(out, tile, mode);
-    	AppConstants.callSleep(time);
+        renderer.drawTileWithSleep(out, tile, mode, time);
+    }
+
+    public void resetRenderedModes() {
+        renderer.resetRenderedModes();
+    }
+
+    public int getRenderedMode(int x, int y) {
+        return renderer.getRenderedMode(x, y);
+    }
+
+    public long getDrawTileSent() {
+        return renderer.getDrawTileSent();
+    }
+
+    public long getDrawTileSuppressed() {
+        return renderer.getDrawTileSuppressed();
     }
 }
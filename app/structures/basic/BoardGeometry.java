@@ -0,0 +1,148 @@
+package structures.basic;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The neighbours of every cell of a board of a given size, for each of the patterns the game
+ * uses, worked out once and shared by every Board of that size (see forSize).
+ *
+ * Cells are numbered x*height+y, the same as the Board bitboards. For each cell there is:
+ *  - adjacentCells, the cells a unit can move to (two cardinal or one diagonal), in the order
+ *    Board.getAdjacentTiles has always returned them (up, right, down, left, then the diagonals)
+ *  - summonCells, the eight cells around it, in the order of Board.summonableTiles
+ *  - attackCells, the eight cells around it, column by column (the 3x3 attack loop)
+ *  - diamondCells, the cells within two steps, column by column (the highlighting loop)
+ * and, on boards of up to 64 cells, the same sets as bitboards (moveMasks and attackMasks).
+ * Each list has at most twelve cells whatever the size of the board, so walking one costs the
+ * same on a 64x64 board as on the 9x5 one.
+ *
+ * The arrays are shared, so they must not be modified.
+ *
+ */
+public class BoardGeometry {
+
+	private static final Map<String,BoardGeometry> geometries = new ConcurrentHashMap<String,BoardGeometry>();
+
+	final int width;
+	final int height;
+
+	final int[][] adjacentCells;
+	final int[][] summonCells;
+	final int[][] attackCells;
+	final int[][] diamondCells;
+
+	// only for boards of up to 64 cells, null on larger boards
+	final long[] moveMasks;
+	final long[] attackMasks;
+
+	// offsets {x,y} of each pattern, in the order the cells are listed
+	private static final int[][] adjacentOffsets = {
+			{0,-1}, {0,-2}, {1,0}, {2,0}, {0,1}, {0,2}, {-1,0}, {-2,0}, // up, right, down, left
+			{1,-1}, {1,1}, {-1,1}, {-1,-1}}; // top-right, bottom-right, bottom-left, top-left
+	private static final int[][] summonOffsets = {
+			{-1,0}, {0,-1}, {0,1}, {1,0}, // left, up, down, right
+			{-1,1}, {-1,-1}, {1,-1}, {1,1}}; // bottom-left, top-left, top-right, bottom-right
+
+	private BoardGeometry(int width, int height) {
+		this.width = width;
+		this.height = height;
+
+		int cells = width*height;
+		adjacentCells = new int[cells][];
+		summonCells = new int[cells][];
+		attackCells = new int[cells][];
+		diamondCells = new int[cells][];
+		moveMasks = cells <= 64 ? new long[cells] : null;
+		attackMasks = cells <= 64 ? new long[cells] : null;
+
+		for (int x = 0; x < width; x++) {
+			for (int y = 0; y < height; y++) {
+				int cell = x*height+y;
+
+				adjacentCells[cell] = fromOffsets(x, y, adjacentOffsets);
+				summonCells[cell] = fromOffsets(x, y, summonOffsets);
+				attackCells[cell] = square(x, y, 1, false);
+				diamondCells[cell] = square(x, y, 2, true);
+
+				if (moveMasks == null) continue;
+				for (int other : adjacentCells[cell]) moveMasks[cell] |= 1L << other;
+				for (int other : attackCells[cell]) attackMasks[cell] |= 1L << other;
+			}
+		}
+	}
+
+	/**
+	 * Returns the geometry for a board of the given size, building it the first time
+	 * @param width
+	 * @param height
+	 * @return
+	 */
+	public static BoardGeometry forSize(int width, int height) {
+		return geometries.computeIfAbsent(width+"x"+height, key -> new BoardGeometry(width, height));
+	}
+
+	private boolean onBoard(int x, int y) {
+		return x>=0 && x<width && y>=0 && y<height;
+	}
+
+	private int[] fromOffsets(int x, int y, int[][] offsets) {
+		int[] found = new int[offsets.length];
+		int count = 0;
+		for (int[] offset : offsets) {
+			if (onBoard(x+offset[0], y+offset[1])) found[count++] = (x+offset[0])*height+y+offset[1];
+		}
+		return Arrays.copyOf(found, count);
+	}
+
+	// the cells of the square of the given radius around (x,y) (or only those within radius steps
+	// if diamond), column by column, without (x,y) itself
+	private int[] square(int x, int y, int radius, boolean diamond) {
+		int side = 2*radius+1;
+		int[] found = new int[side*side];
+		int count = 0;
+		for (int i = -radius; i <= radius; i++) {
+			for (int j = -radius; j <= radius; j++) {
+				if ((i==0 && j==0) || !onBoard(x+i, y+j)) continue;
+				if (diamond && Math.abs(i)+Math.abs(j)>radius) continue;
+				found[count++] = (x+i)*height+y+j;
+			}
+		}
+		return Arrays.copyOf(found, count);
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	public int[] getAdjacentCells(int cell) {
+		return adjacentCells[cell];
+	}
+
+	public int[] getSummonCells(int cell) {
+		return summonCells[cell];
+	}
+
+	public int[] getAttackCells(int cell) {
+		return attackCells[cell];
+	}
+
+	public int[] getDiamondCells(int cell) {
+		return diamondCells[cell];
+	}
+
+	// the masks are only there for boards of up to 64 cells
+
+	public long getMoveMask(int cell) {
+		return moveMasks[cell];
+	}
+
+	public long getAttackMask(int cell) {
+		return attackMasks[cell];
+	}
+}
@@ -0,0 +1,163 @@
+package structures.basic;
+
+import java.util.ArrayList;
+
+import akka.actor.ActorRef;
+import commands.BasicCommands;
+import utils.AppConstants;
+
+/**
+ * Draws a Board's tiles on the front-end. Everything that sends a drawTile command (and sleeps
+ * after it) is here, so the Board itself only answers queries and can be used by the AI and for
+ * validation without sending anything or waiting. Each board has one renderer (see
+ * Board.getRenderer).
+ *
+ * The renderer remembers the last mode (0/1/2) sent for each tile and skips drawTile commands
+ * that would not change anything. The remembered modes and the counts are only changed while
+ * holding the renderer's lock, as the actor and the AI's turn threads both draw tiles. The
+ * drawTile command and the sleep after it are outside the lock.
+ *
+ */
+public class BoardRenderer {
+
+    private final Board board;
+
+    // last mode (0/1/2) sent to the front-end for each tile, -1 if it has not been drawn yet.
+    // drawTileWithSleep uses this to skip drawTile commands that would not change anything.
+    // This and the counts are guarded by the renderer's lock
+    private final int[][] renderedModes;
+    private long drawTileSent = 0; // drawTile commands sent to the front-end
+    private long drawTileSuppressed = 0; // drawTile commands skipped as the tile was already in that mode
+
+    public BoardRenderer(Board board) {
+        this.board = board;
+        renderedModes = new int[board.getWidth()][board.getHeight()];
+        resetRenderedModes();
+    }
+
+    /**
+     * Draws every tile of the board in mode 0, column by column
+     *
+     * @param out
+     */
+    public void drawTiles(ActorRef out) {
+        Tile[][] tiles = board.getTiles();
+        for (int i = 0; i < tiles.length; i++) {
+            for (int j = 0; j < tiles[i].length; j++) {
+                drawTileWithSleep(out, tiles[i][j], 0, AppConstants.drawTileSleepTime);
+            }
+        }
+    }
+
+    /**
+     * Highlights the tiles returned by Board.getMoveAndAttackTiles, red for those with a unit
+     * on them and white for the empty ones
+     *
+     * @param out
+     * @param tiles
+     */
+    public void highlightMoveAndAttack(ActorRef out, ArrayList<Tile> tiles) {
+        for (Tile tile : tiles) {
+            drawTileWithSleep(out, tile, tile.getUnitFromTile() != null ? 2 : 1, AppConstants.drawTileSleepTime);
+        }
+    }
+
+    /**
+     * method to iterate through the arrayList of adjacent tiles and drawTile() with white highlighting
+     *
+     * @param out
+     * @param tiles
+     */
+    public void highlightTilesWhite(ActorRef out, ArrayList<Tile> tiles) {
+        for (Tile tile : tiles) {
+            if (tile.getUnitFromTile() == null) {  // tiles with units should never be highlighted in white only red
+                drawTileWithSleep(out, tile, 1, AppConstants.drawTileSleepTime);
+            }
+        }
+    }
+
+    /**
+     * method to iterate through the arrayList of adjacent tiles and drawTile() with red highlighting
+     *
+     * @param out
+     * @param tiles
+     */
+    public void highlightTilesRed(ActorRef out, ArrayList<Tile> tiles) {
+        for (Tile tile : tiles) {
+            drawTileWithSleep(out, tile, 2, AppConstants.drawTileSleepTime);
+        }
+    }
+
+    public void highlightTilesWhiteSpell(ActorRef out, ArrayList<Tile> tiles) {
+        for (Tile tile : tiles) {
+            if (tile.getUnitFromTile() != null) {
+                drawTileWithSleep(out, tile, 1, AppConstants.drawTileSleepTime);
+            }
+        }
+    }
+
+    public void clearTileHighlighting(ActorRef out, ArrayList<Tile> tiles) {  // method to clear the highlighted tiles
+        for (Tile tile : tiles) {
+            drawTileWithSleep(out, tile, 0, AppConstants.drawTileSleepTime);
+        }
+        // no sleep needed here, the websocket buffers and merges the drawTile commands (see OutboundBuffer)
+    }
+
+    /**
+     * Draws a tile in the given mode, unless the front-end is already showing it in that mode,
+     * in which case nothing is sent (and there is no sleep)
+     *
+     * @param out
+     * @param tile
+     * @param mode
+     * @param time
+     */
+    public void drawTileWithSleep(ActorRef out, Tile tile, int mode, long time) {
+        if (!markRendered(tile.getTilex(), tile.getTiley(), mode)) return;
+
+        BasicCommands.drawTile(out, tile, mode);
+        AppConstants.callSleep(time);
+    }
+
+    // records the mode as sent for the tile, false if it was already showing it
+    private synchronized boolean markRendered(int x, int y, int mode) {
+        if (renderedModes[x][y] == mode) {
+            drawTileSuppressed++;
+            return false;
+        }
+        renderedModes[x][y] = mode;
+        drawTileSent++;
+        return true;
+    }
+
+    /**
+     * Forgets what has been drawn, so the next drawTile for every tile is sent
+     * (e.g. if the front-end has been redrawn from scratch)
+     */
+    public synchronized void resetRenderedModes() {
+        for (int i = 0; i < renderedModes.length; i++) {
+            for (int j = 0; j < renderedModes[i].length; j++) {
+                renderedModes[i][j] = -1;
+            }
+        }
+    }
+
+    /**
+     * Returns the last mode sent to the front-end for a tile, -1 if it has not been drawn
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public synchronized int getRenderedMode(int x, int y) {
+        return renderedModes[x][y];
+    }
+
+    public synchronized long getDrawTileSent() {
+        return drawTileSent;
+    }
+
+    public synchronized long getDrawTileSuppressed() {
+        return drawTileSuppressed;
+    }
+}
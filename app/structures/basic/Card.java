@@ -1,66 +1,93 @@
-package structures.basic;
-
-
-/**
- * This is the base representation of a Card which is rendered in the player's hand.
- * A card has an id, a name (cardname) and a manacost. A card then has a large and mini
- * version. The mini version is what is rendered at the bottom of the screen. The big
- * version is what is rendered when the player clicks on a card in their hand.
- * 
- * @author Dr. Richard McCreadie
- *
- */
-public class Card {
-	
-	int id;
-	
-	String cardname;
-	int manacost;
-	
-	MiniCard miniCard;
-	BigCard bigCard;
-	
-	public Card() {};
-	
-	public Card(int id, String cardname, int manacost, MiniCard miniCard, BigCard bigCard) {
-		super();
-		this.id = id;
-		this.cardname = cardname;
-		this.manacost = manacost;
-		this.miniCard = miniCard;
-		this.bigCard = bigCard;
-	}
-	
-	public int getId() {
-		return id;
-	}
-	public void setId(int id) {
-		this.id = id;
-	}
-	public String getCardname() {
-		return cardname;
-	}
-	public void setCardname(String cardname) {
-		this.cardname = cardname;
-	}
-	public int getManacost() {
-		return manacost;
-	}
-	public void setManacost(int manacost) {
-		this.manacost = manacost;
-	}
-	public MiniCard getMiniCard() {
-		return miniCard;
-	}
-	public void setMiniCard(MiniCard miniCard) {
-		this.miniCard = miniCard;
-	}
-	public BigCard getBigCard() {
-		return bigCard;
-	}
-	public void setBigCard(BigCard bigCard) {
-		this.bigCard = bigCard;
-	}
-
-	
-}
+package structures.basic;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import commands.CommandEncoder;
+
+/**
+ * This is the base representation of a Card which is rendered in the player's hand.
+ * A card has an id, a name (cardname) and a manacost. A card then has a large and mini
+ * version. The mini version is what is rendered at the bottom of the screen. The big
+ * version is what is rendered when the player clicks on a card in their hand.
+ * 
+ * @author Dr. Richard McCreadie
+ *
+ */
+public class Card {
+	
+	int id;
+	
+	String cardname;
+	int manacost;
+	
+	MiniCard miniCard;
+	BigCard bigCard;
+
+	// JSON sent to the front-end for this card, encoded on first use and cleared if the card is changed
+	@JsonIgnore
+	volatile JsonNode encoded;
+	
+	public Card() {};
+	
+	public Card(int id, String cardname, int manacost, MiniCard miniCard, BigCard bigCard) {
+		super();
+		this.id = id;
+		this.cardname = cardname;
+		this.manacost = manacost;
+		this.miniCard = miniCard;
+		this.bigCard = bigCard;
+	}
+	
+	public int getId() {
+		return id;
+	}
+	public void setId(int id) {
+		this.id = id;
+		encoded = null;
+	}
+	public String getCardname() {
+		return cardname;
+	}
+	public void setCardname(String cardname) {
+		this.cardname = cardname;
+		encoded = null;
+	}
+	public int getManacost() {
+		return manacost;
+	}
+	public void setManacost(int manacost) {
+		this.manacost = manacost;
+		encoded = null;
+	}
+	public MiniCard getMiniCard() {
+		return miniCard;
+	}
+	public void setMiniCard(MiniCard miniCard) {
+		this.miniCard = miniCard;
+		encoded = null;
+	}
+	public BigCard getBigCard() {
+		return bigCard;
+	}
+	public void setBigCard(BigCard bigCard) {
+		this.bigCard = bigCard;
+		encoded = null;
+	}
+
+	/**
+	 * Returns the JSON for this card, it is only encoded the first time it is
+	 * needed. The returned node is shared so must not be modified.
+	 * @return
+	 */
+	@JsonIgnore
+	public JsonNode getEncoded() {
+		JsonNode node = encoded;
+		if (node==null) {
+			node = CommandEncoder.toJson(this);
+			encoded = node;
+		}
+		return node;
+	}
+	
+}
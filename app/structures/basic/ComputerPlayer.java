@@ -4,16 +4,26 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import actions.PerformAction;
+import ai.Action;
+import ai.AiExecutor;
+import ai.AlphaBetaEngine;
+import ai.MctsEngine;
+import ai.TurnPlanner;
 import akka.actor.ActorRef;
+import commands.AnimationTimeline;
 import commands.BasicCommands;
 import events.CardClicked;
 import events.EndTurnClicked;
 import events.TileClicked;
 import play.libs.Json;
+import structures.GameSnapshot;
 import structures.GameState;
 import utils.AppConstants;
 
@@ -41,7 +51,9 @@ public class ComputerPlayer extends Player{
 	
 	boolean movesEnd=false,cardsDrawEnd=false;
 	
-	Thread aiThread;
+	FutureTask<Void> aiTurnTask; // the turn queued or playing on the AiExecutor
+	
+	TurnPlanner planner; // plans the whole turn when set, otherwise the turn is played by the rules below
 	
     /** constructor to create a player with set health and mana which calls 
      * setPlayer to place the data on the front end.
@@ -53,16 +65,48 @@ public class ComputerPlayer extends Player{
      */
     public ComputerPlayer(int playerID, ActorRef out, BetterUnit avatar, String[] unitFiles) {
         super(playerID, out, avatar, unitFiles);
-       
+        if (AppConstants.aiEngine.equals("mcts")) {
+        	planner = new MctsEngine(AppConstants.mctsIterations, 0, System.nanoTime());
+        } else if (AppConstants.aiEngine.equals("alphabeta")) {
+        	planner = new AlphaBetaEngine(AppConstants.alphaBetaDepth, 0, AppConstants.aiMaxParallelism);
+        }
     }
+
+	@JsonIgnore
+	public TurnPlanner getPlanner() {
+		return planner;
+	}
+
+	/** Returns how long the planner may think in a turn, in milliseconds, from
+	 * AppConstants.aiDifficulty
+	 * 
+	 * @return
+	 */
+	public static long getTurnBudget() {
+		switch (AppConstants.aiDifficulty) {
+			case "easy": return AppConstants.aiEasyTurnMillis;
+			case "hard": return AppConstants.aiHardTurnMillis;
+			default: return AppConstants.aiNormalTurnMillis;
+		}
+	}
+
+	/** Sets what plans the AI's turns, null to play them by ComputerPlayer's own rules
+	 * 
+	 * @param planner
+	 */
+	public void setPlanner(TurnPlanner planner) {
+		this.planner = planner;
+	}
 	
 	public void startAIThread(ActorRef out,GameState gameState) {
 		AppConstants.printLog("<------------------------------Starting AI Thread-------------------------------------------------->");
 
-		aiThread = new Thread(new Runnable() {
+		Runnable aiTurn = new Runnable() {
 		    @Override
 		    public void run() {
    	
+		    	// the AI's commands are paced on the same timeline as the rest of the game
+		    	AnimationTimeline.attach(gameState.timeline);
 		    	try {
 
 		    		cardsDrawEnd=false;
@@ -78,35 +122,53 @@ public class ComputerPlayer extends Player{
 					cardsDrawEnd=true;
 					movesEnd=true;
 					
-					//Stop thread
-					aiThread.interrupt();
-					
-					// End turn
-					ObjectNode eventMessage = Json.newObject();
-					eventMessage.put("messagetype", "endturnclicked");
-					optimalAttackTile.clear();
-					optimalMoveTile.clear();
-					bestAttackTile.clear();
-					bestSummonTile.clear();
-					bestMoveTile.clear();
-
-					EndTurnClicked ec=new EndTurnClicked();
-					ec.processEvent(out, gameState, eventMessage); 
-					
-					callSleepAI(200);
+					// End turn, unless the turn was stopped because the game is gone
+					if (!Thread.currentThread().isInterrupted()) {
+						endAITurn(out, gameState);
+						callSleepAI(200);
+					}
 
 					
+				} finally {
+					AnimationTimeline.detach();
 				}
 		    }
-		});  
-		aiThread.start();	
+		};
+		
+		// without a front-end there is nothing to wait for, so the AI takes its turn straight away
+		if (gameState.headless) {
+			aiTurnTask = null;
+			aiTurn.run();
+			return;
+		}
+		
+		try {
+			aiTurnTask = AiExecutor.shared().submit(aiTurn);
+		} catch (RejectedExecutionException e) {
+			// too many AI turns waiting on the server, the AI passes this turn rather than hold the game up
+			AppConstants.printLog("<-------- AI :: too many AI turns waiting, ending the turn");
+			aiTurnTask = null;
+			endAITurn(out, gameState);
+		}
+	}
+
+	/** Stops the AI's turn, if it is waiting or playing, for when the game's websocket closes
+	 * 
+	 */
+	public void stopAI() {
+		if (aiTurnTask!=null) AiExecutor.shared().cancel(aiTurnTask);
+		aiTurnTask = null;
 	}
   
 	private void startAILogic(ActorRef out, GameState gameState) {
 		AppConstants.printLog("<------------------------------startAILogic-------------------------------------------------->");
 			
 		boolean isContinue=true; //boolean to keep track of how long loop should continue
-		while(isContinue && gameState.isGameActive==true)
+		if (planner!=null) {
+			playPlannedTurn(out, gameState);
+			isContinue=false;
+		}
+		while(isContinue && gameState.isGameActive==true && !Thread.currentThread().isInterrupted())
 		{
 			AppConstants.printLog("<--------------------Game State at the moment---------------------->");
 			//Test
@@ -158,7 +220,18 @@ public class ComputerPlayer extends Player{
 		
 	// Exited loop
 		
+		if (Thread.currentThread().isInterrupted()) return; // stopped, the game is gone
+		
 		// End turn
+		endAITurn(out, gameState);
+	}
+
+	/** Method to end the AI's turn, forgetting the moves it worked out
+	 * 
+	 * @param out
+	 * @param gameState
+	 */
+	private void endAITurn(ActorRef out, GameState gameState) {
 		ObjectNode eventMessage = Json.newObject();
 		eventMessage.put("messagetype", "endturnclicked");
 		optimalAttackTile.clear();
@@ -166,14 +239,71 @@ public class ComputerPlayer extends Player{
 		bestAttackTile.clear();
 		bestSummonTile.clear();
 		bestMoveTile.clear();
-		
 
 		EndTurnClicked ec=new EndTurnClicked();
 		ec.processEvent(out, gameState, eventMessage); 
-			
 	}
 	
 	
+	/** Method to play the turn the planner decides on in the time getTurnBudget gives it, with the same messages as the
+	 * AI's own summons, moves and attacks. An action the game no longer allows (the planner
+	 * does not play spells or special abilities, so the board can differ from what it expected)
+	 * is skipped
+	 * 
+	 * @param out
+	 * @param gameState
+	 */
+	private void playPlannedTurn(ActorRef out, GameState gameState) {
+		long budget = getTurnBudget();
+		long start = System.currentTimeMillis();
+		List<Action> plan = planner.planTurn(GameSnapshot.of(gameState), budget);
+		AppConstants.printLog("<-------- AI :: planned "+plan.size()+" actions in "+(System.currentTimeMillis()-start)+"ms of "+budget+"ms");
+		if (planner instanceof MctsEngine) {
+			MctsEngine mcts = (MctsEngine) planner;
+			AppConstants.printLog("<-------- AI :: MCTS :: "+mcts.getLastPlayouts()+" playouts, "+Math.round(mcts.getPlayoutsPerSecond())+" playouts/s");
+		} else if (planner instanceof AlphaBetaEngine) {
+			AlphaBetaEngine alphaBeta = (AlphaBetaEngine) planner;
+			AppConstants.printLog("<-------- AI :: alpha-beta :: "+alphaBeta.getLastNodes()+" positions, depth "+alphaBeta.getLastDepth());
+		}
+
+		Board board = gameState.board;
+		for (Action action : plan) {
+			if (gameState.isGameOver || Thread.currentThread().isInterrupted()) break;
+			AppConstants.printLog("<-------- AI :: playPlannedTurn():: "+action);
+			Tile tile = board.tileAt(action.getTo());
+			if (action.getType()==Action.SUMMON) {
+				// found by its id, an earlier summon that was skipped leaves the hand positions different from the plan's
+				int handIdx = handPositionOf(action.getCard());
+				if (handIdx>-1 && currentTile!=null && tile.getUnitFromTile()==null) {
+					drawCardAI(handIdx+1,out,gameState,currentTile,tile);
+				}
+				continue;
+			}
+			Tile startTile = board.tileAt(action.getFrom());
+			Unit unit = startTile.getUnitFromTile();
+			if (unit==null || unit.getIsPlayer()!=2) continue;
+			if (action.getType()==Action.MOVE && tile.getUnitFromTile()==null) {
+				moveAIUnit(out, gameState, startTile, tile);
+			} else if (action.getType()==Action.ATTACK && tile.getUnitFromTile()!=null && tile.getUnitFromTile().getIsPlayer()!=2) {
+				attackAIUnit(out, gameState, startTile, tile);
+			}
+		}
+	}
+
+	/** Method returns the hand position (from 0) of a unit card with the given id, or -1
+	 * if there is none in the hand
+	 * 
+	 * @param cardID
+	 * @return
+	 */
+	private int handPositionOf(int cardID) {
+		for (int i=0;i<hand.size();i++) {
+			Card card = hand.get(i);
+			if (card.getId()==cardID && getUnitbyCard(card)!=null) return i;
+		}
+		return -1;
+	}
+
 	/** Method to summon a card on the board
 	 * 
 	 * @param mode
@@ -432,7 +562,7 @@ public class ComputerPlayer extends Player{
 	 */
 	public void checkUnitTiles(ActorRef out,GameState gameState) {
 		//AI unit's tile
-		tileWithMyUnit=gameState.board.getTilesWithUnits(out, gameState.board.getTiles(), gameState.player2);
+		tileWithMyUnit=gameState.board.getTilesWithUnits(gameState.player2);
 		AppConstants.printLog("<---------------------------------------------Tile with AI units------------------------------------------->");
 		for (Tile tile : tileWithMyUnit) {
 			if(tile.getUnitFromTile().getId()==41) System.out.println("Tiles with AI units: "+tile.toString()+ " with unit AI_Aviatar and id: " + tile.getUnitFromTile().getId());
@@ -440,7 +570,7 @@ public class ComputerPlayer extends Player{
 		}
 		//player unit's tile
 		AppConstants.printLog("<---------------------------------------------Tile with player units------------------------------------------->");
-		tileWithPlayerUnits = gameState.board.getTilesWithUnits(out, gameState.board.getTiles(), gameState.player1);
+		tileWithPlayerUnits = gameState.board.getTilesWithUnits(gameState.player1);
 		for (Tile tile : tileWithPlayerUnits) {
 			if(tile.getUnitFromTile().getId()==40) System.out.println("Tiles with Player units: "+tile.toString()+ " with unit Human_Avatar and id: " + tile.getUnitFromTile().getId());
 			else System.out.println("Tiles with Player units: "+tile.toString()+ " with unit: "+ tile.getUnitFromTile().getName()+ " and id: " + tile.getUnitFromTile().getId());
@@ -520,7 +650,7 @@ public class ComputerPlayer extends Player{
 		for (Tile tile : tileWithMyUnit) {
 			if(tile.getUnitFromTile().getId()==41){//for AI avatar
 				// System.out.println("Unit: "+tile.getUnitFromTile().getName()+" with id: "+tile.getUnitFromTile().getId()+" has not attacked or moved");
-				List <Tile> possibleTilesForMove = gameState.board.highlightTilesMoveAndAttack(0, gameState.player2, out, tile, gameState);
+				List <Tile> possibleTilesForMove = gameState.board.getMoveAndAttackTiles(tile);
 				possibleAttackableList=new ArrayList<Tile>();
 				possibleMovableList = new ArrayList<Tile>();
 				for (Tile tile2 : possibleTilesForMove) {
@@ -543,7 +673,7 @@ public class ComputerPlayer extends Player{
 			}
 			else if(tile.getUnitFromTile().getId()==25 || tile.getUnitFromTile().getId()==35){
 				//possible tiles to move and attack
-				possibleMovableList = gameState.board.highlightTilesMoveAndAttack(0, gameState.player2, out, tile, gameState);//this will also contain attack tiles
+				possibleMovableList = gameState.board.getMoveAndAttackTiles(tile);//this will also contain attack tiles
 				possibleAttackableList = ComputerTiles.pyromancerAttackTiles(gameState, out);
 				//best tile
 				bestMoveTile.put(tile.getUnitFromTile(), possibleMovableList);
@@ -565,7 +695,7 @@ public class ComputerPlayer extends Player{
 				possibleAttackableList=new ArrayList<Tile>();
 				possibleMovableList = new ArrayList<Tile>();
 				//System.out.println("Tile with my unit: "+ tile.toString());
-				List <Tile> possibleTilesForMove = gameState.board.highlightTilesMoveAndAttack(0, gameState.player2, out, tile, gameState);
+				List <Tile> possibleTilesForMove = gameState.board.getMoveAndAttackTiles(tile);
 				for (Tile tile2 : possibleTilesForMove) {
 					if(tile2.getUnitFromTile()!=null ) {
 						if((tile2.getUnitFromTile().getId()<20 || tile2.getUnitFromTile().getId()==40))//if enemy unit on those tiles
@@ -792,11 +922,6 @@ public class ComputerPlayer extends Player{
 	 * 
 	 */
 	private void callSleepAI(long millis){
-		try{
-			Thread.sleep(millis);
-		}
-		catch(InterruptedException e){
-			e.printStackTrace();
-		}
+		AppConstants.callSleep(millis); // goes through the AnimationTimeline when one is attached
 	}
 }
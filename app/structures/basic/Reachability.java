@@ -0,0 +1,200 @@
+package structures.basic;
+
+import java.util.Arrays;
+
+/**
+ * The cells every unit on a Board can move to and attack, worked out in one pass over the
+ * units and kept until the board changes (see Board.getReachability). Highlighting, move
+ * validation, attacking after a move and the AI all read from here, so they agree on what a
+ * unit can do.
+ *
+ * Unlike the fixed diamond used before, units in the way are taken into account: a unit cannot
+ * move through an enemy unit, so a move two tiles in a straight line needs the tile in between
+ * to be free of enemies, and a diagonal move needs at least one of the two tiles it passes to
+ * be free of enemies. Friendly units can be moved through. The tile moved to must be empty.
+ *
+ * A unit can attack the enemy units next to it (including diagonally), and the enemy units next
+ * to any tile it can move to. This does not look at whether the unit has already moved or
+ * attacked this turn, the callers check that as before.
+ *
+ */
+public class Reachability {
+
+    private final Board board;
+    private final long version; // the board's version this was worked out for
+
+    // for each cell with a unit on it, the cells it can move to (in the order of
+    // BoardGeometry.getAdjacentCells) and the enemy cells it can attack (ascending), null for empty cells
+    private final int[][] reachable;
+    private final int[][] attackable;
+
+    Reachability(Board board) {
+        this.board = board;
+        this.version = board.getVersion();
+        BoardGeometry geometry = board.getGeometry();
+        int cells = board.getWidth() * board.getHeight();
+        reachable = new int[cells][];
+        attackable = new int[cells][];
+
+        int[] moves = new int[12];
+        long[] targets = new long[Board.wordsFor(cells)];
+        long[] occupied = board.getOccupiedWords();
+        for (int word = 0; word < occupied.length; word++) {
+            long bits = occupied[word];
+            while (bits != 0) {
+                int cell = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+
+                int owner = board.tileAt(cell).getUnitFromTile().getIsPlayer();
+                int count = 0;
+                for (int next : geometry.getAdjacentCells(cell)) {
+                    if (canMove(geometry, owner, cell, next)) moves[count++] = next;
+                }
+                reachable[cell] = Arrays.copyOf(moves, count);
+
+                // the enemies next to the unit, or next to a cell it can move to
+                Arrays.fill(targets, 0);
+                addEnemiesAround(geometry, owner, cell, targets);
+                for (int i = 0; i < count; i++) addEnemiesAround(geometry, owner, moves[i], targets);
+                attackable[cell] = cellsOf(targets);
+            }
+        }
+    }
+
+    // whether a unit of the owner on the from cell can move to the to cell (one of its adjacent cells)
+    private boolean canMove(BoardGeometry geometry, int owner, int from, int to) {
+        if (board.isOccupied(to)) return false;
+        int height = board.getHeight();
+        int fromX = from / height, fromY = from % height;
+        int toX = to / height, toY = to % height;
+        int dx = toX - fromX, dy = toY - fromY;
+
+        if (Math.abs(dx) + Math.abs(dy) == 1) return true;
+        if (dx == 0 || dy == 0) {
+            // two tiles in a straight line, through the tile in between
+            return !isEnemy(owner, board.cellIndex(fromX + dx / 2, fromY + dy / 2));
+        }
+        // diagonal, round either corner
+        return !isEnemy(owner, board.cellIndex(toX, fromY)) || !isEnemy(owner, board.cellIndex(fromX, toY));
+    }
+
+    private boolean isEnemy(int owner, int cell) {
+        return board.isOccupied(cell) && !board.isUnitOf(owner, cell);
+    }
+
+    private void addEnemiesAround(BoardGeometry geometry, int owner, int cell, long[] targets) {
+        for (int next : geometry.getSummonCells(cell)) {
+            if (isEnemy(owner, next)) Board.add(targets, next);
+        }
+    }
+
+    private static int[] cellsOf(long[] words) {
+        int count = 0;
+        for (long word : words) count += Long.bitCount(word);
+        int[] cells = new int[count];
+        int i = 0;
+        for (int word = 0; word < words.length; word++) {
+            long bits = words[word];
+            while (bits != 0) {
+                cells[i++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return cells;
+    }
+
+    private static final int[] none = new int[0];
+
+    /**
+     * The board version this was worked out for, see Board.getVersion
+     *
+     * @return
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * The cells the unit on the cell can move to, in the order of BoardGeometry.getAdjacentCells,
+     * empty if there is no unit on the cell. The array is shared, do not change it
+     *
+     * @param cell
+     * @return
+     */
+    public int[] getReachableCells(int cell) {
+        int[] cells = reachable[cell];
+        return cells == null ? none : cells;
+    }
+
+    /**
+     * The cells of the enemy units the unit on the cell can attack, either from where it is or
+     * after a move, in ascending order. The array is shared, do not change it
+     *
+     * @param cell
+     * @return
+     */
+    public int[] getAttackableCells(int cell) {
+        int[] cells = attackable[cell];
+        return cells == null ? none : cells;
+    }
+
+    /**
+     * Whether the unit on the from cell can move to the to cell
+     *
+     * @param from
+     * @param to
+     * @return
+     */
+    public boolean canReach(int from, int to) {
+        for (int cell : getReachableCells(from)) {
+            if (cell == to) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Whether the unit on the from cell can attack the unit on the target cell, from where it
+     * is or after a move
+     *
+     * @param from
+     * @param target
+     * @return
+     */
+    public boolean canAttack(int from, int target) {
+        for (int cell : getAttackableCells(from)) {
+            if (cell == target) return true;
+        }
+        return false;
+    }
+
+    /**
+     * The cell the unit on the from cell should move to so it can attack the unit on the target
+     * cell: the first cell it can move to (in the order of BoardGeometry.getAdjacentCells) that
+     * is next to the target, or -1 if there is none
+     *
+     * @param from
+     * @param target
+     * @return
+     */
+    public int getMoveToAttack(int from, int target) {
+        int height = board.getHeight();
+        int targetX = target / height, targetY = target % height;
+        for (int cell : getReachableCells(from)) {
+            if (Math.max(Math.abs(cell / height - targetX), Math.abs(cell % height - targetY)) == 1) return cell;
+        }
+        return -1;
+    }
+
+    /**
+     * The cells the unit on the cell can move to or attack, in ascending order (column by column)
+     *
+     * @param cell
+     * @return
+     */
+    public int[] getMoveAndAttackCells(int cell) {
+        long[] cells = new long[Board.wordsFor(reachable.length)];
+        for (int next : getReachableCells(cell)) Board.add(cells, next);
+        for (int next : getAttackableCells(cell)) Board.add(cells, next);
+        return cellsOf(cells);
+    }
+}
@@ -21,7 +21,7 @@ public class SpecialAbilities {
         // Not a friendly unit --> attack
         EffectAnimation projectile = BasicObjectBuilders.loadEffect(StaticConfFiles.f1_projectiles);
         BasicCommands.playUnitAnimation(out, unit, UnitAnimationType.attack);
-        try {Thread.sleep(1000);} catch (InterruptedException e) {e.printStackTrace();}
+        AppConstants.callSleep(1000);
         BasicCommands.playProjectileAnimation(out, projectile, 0, startTile, enemyTile);
         AppConstants.callSleep(AppConstants.attackSleepTime);
 
@@ -82,7 +82,7 @@ public class SpecialAbilities {
             AppConstants.callSleep(3000);
             return true;
 
-        } else if (gameState.board.summonableTiles(out,startTile).contains(enemyTile)){ //enemy survived and is in range, counter attack
+        } else if (gameState.board.isNextTo(startTile, enemyTile)){ //enemy survived and is in range, counter attack
 
             attackVal = -1;
 
@@ -250,10 +250,11 @@ public class SpecialAbilities {
 
     public static ArrayList<Unit> provoke(ActorRef out, GameState gameState, Player player,Unit unit){
         if (player.getID() == 1) {
-            ArrayList<Tile> provokedTiles = gameState.board.summonableTiles(out, unit.getTileFromUnitP2(unit.getId(), gameState, out));
+            Tile provoker = unit.getTileFromUnitP2(unit.getId(), gameState, out);
             ArrayList<Unit> provokedUnits = new ArrayList<Unit>();
 
-            for (Tile tile : provokedTiles){
+            for (int cell : gameState.board.getGeometry().getSummonCells(gameState.board.cellIndex(provoker))){
+                Tile tile = gameState.board.tileAt(cell);
                 if (tile.getUnitFromTile()!=null && tile.getUnitFromTile().getIsPlayer() == 1){
                     Unit unitP = tile.getUnitFromTile();
                     unitP.setMoved(true);
@@ -264,10 +265,11 @@ public class SpecialAbilities {
             }return provokedUnits;
         }
         else {
-            ArrayList<Tile> provokedTiles = gameState.board.summonableTiles(out, unit.getTileFromUnit(unit.getId(), gameState, out));
+            Tile provoker = unit.getTileFromUnit(unit.getId(), gameState, out);
             ArrayList<Unit> provokedUnits = new ArrayList<Unit>();
 
-            for (Tile tile : provokedTiles){
+            for (int cell : gameState.board.getGeometry().getSummonCells(gameState.board.cellIndex(provoker))){
+                Tile tile = gameState.board.tileAt(cell);
                 if (tile.getUnitFromTile()!=null && tile.getUnitFromTile().getIsPlayer() ==2){
                     Unit unitP = tile.getUnitFromTile();
                     unitP.setMoved(true);
@@ -1,142 +1,175 @@
-package structures.basic;
-
-import java.io.File;
-import java.util.ArrayList;
-import java.util.List;
-
-import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-/**
- * A basic representation of a tile on the game board. Tiles have both a pixel position
- * and a grid position. Tiles also have a width and height in pixels and a series of urls
- * that point to the different renderable textures that a tile might have.
- * 
- * @author Dr. Richard McCreadie
- *
- */
-public class Tile {
-
-	@JsonIgnore
-	private static ObjectMapper mapper = new ObjectMapper(); // Jackson Java Object Serializer, is used to read java objects from a file
-	
-	List<String> tileTextures;
-	int xpos;
-	int ypos;
-	int width;
-	int height;
-	int tilex;
-	int tiley;
-	Unit unit;
-	
-	public Tile() {}
-	
-	public Tile(String tileTexture, int xpos, int ypos, int width, int height, int tilex, int tiley) {
-		super();
-		tileTextures = new ArrayList<String>(1);
-		tileTextures.add(tileTexture);
-		this.xpos = xpos;
-		this.ypos = ypos;
-		this.width = width;
-		this.height = height;
-		this.tilex = tilex;
-		this.tiley = tiley;
-	}
-	
-	public Tile(List<String> tileTextures, int xpos, int ypos, int width, int height, int tilex, int tiley) {
-		super();
-		this.tileTextures = tileTextures;
-		this.xpos = xpos;
-		this.ypos = ypos;
-		this.width = width;
-		this.height = height;
-		this.tilex = tilex;
-		this.tiley = tiley;
-	}
-	public List<String> getTileTextures() {
-		return tileTextures;
-	}
-	public void setTileTextures(List<String> tileTextures) {
-		this.tileTextures = tileTextures;
-	}
-	public int getXpos() {
-		return xpos;
-	}
-	public void setXpos(int xpos) {
-		this.xpos = xpos;
-	}
-	public int getYpos() {
-		return ypos;
-	}
-	public void setYpos(int ypos) {
-		this.ypos = ypos;
-	}
-	public int getWidth() {
-		return width;
-	}
-	public void setWidth(int width) {
-		this.width = width;
-	}
-	public int getHeight() {
-		return height;
-	}
-	public void setHeight(int height) {
-		this.height = height;
-	}
-	public int getTilex() {
-		return tilex;
-	}
-	public void setTilex(int tilex) {
-		this.tilex = tilex;
-	}
-	public int getTiley() {
-		return tiley;
-	}
-	public void setTiley(int tiley) {
-		this.tiley = tiley;
-	}
-	public String toString() {
-		return "["+this.getTilex()+","+this.getTiley()+"]";
-	}
-	
-	/**
-	 * Loads a tile from a configuration file
-	 * parameters.
-	 * @param configFile
-	 * @return
-	 */
-	public static Tile constructTile(String configFile) {
-		
-		try {
-			Tile tile = mapper.readValue(new File(configFile), Tile.class);
-			return tile;
-		} catch (Exception e) {
-			e.printStackTrace();
-			
-		}
-		return null;
-		
-	}
-
-	/** sets a unit to the given tile
-	 * 
-	 * @param unit
-	 */
-	public void setUnitToTile(Unit unit) {
-		// TODO Auto-generated method stub
-		this.unit=unit;
-	}
-	
-	/** Returns the unit on the tile
-	 * 
-	 * @return
-	 */
-	public Unit getUnitFromTile() {
-		// TODO Auto-generated method stub
-		return unit;
-	}
-
-
-	
-	
-}
+package structures.basic;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import commands.CommandEncoder;
+
+/**
+ * A basic representation of a tile on the game board. Tiles have both a pixel position
+ * and a grid position. Tiles also have a width and height in pixels and a series of urls
+ * that point to the different renderable textures that a tile might have.
+ * 
+ * @author Dr. Richard McCreadie
+ *
+ */
+public class Tile {
+
+	@JsonIgnore
+	private static ObjectMapper mapper = new ObjectMapper(); // Jackson Java Object Serializer, is used to read java objects from a file
+	
+	List<String> tileTextures;
+	int xpos;
+	int ypos;
+	int width;
+	int height;
+	int tilex;
+	int tiley;
+	Unit unit;
+
+	// JSON sent to the front-end for this tile, encoded on first use and cleared if the tile is changed
+	@JsonIgnore
+	volatile JsonNode encoded;
+
+	// the board this tile is on, told when the unit on the tile changes so it can update its bitboards
+	@JsonIgnore
+	Board board;
+	
+	public Tile() {}
+	
+	public Tile(String tileTexture, int xpos, int ypos, int width, int height, int tilex, int tiley) {
+		super();
+		tileTextures = new ArrayList<String>(1);
+		tileTextures.add(tileTexture);
+		this.xpos = xpos;
+		this.ypos = ypos;
+		this.width = width;
+		this.height = height;
+		this.tilex = tilex;
+		this.tiley = tiley;
+	}
+	
+	public Tile(List<String> tileTextures, int xpos, int ypos, int width, int height, int tilex, int tiley) {
+		super();
+		this.tileTextures = tileTextures;
+		this.xpos = xpos;
+		this.ypos = ypos;
+		this.width = width;
+		this.height = height;
+		this.tilex = tilex;
+		this.tiley = tiley;
+	}
+	public List<String> getTileTextures() {
+		return tileTextures;
+	}
+	public void setTileTextures(List<String> tileTextures) {
+		this.tileTextures = tileTextures;
+		encoded = null;
+	}
+	public int getXpos() {
+		return xpos;
+	}
+	public void setXpos(int xpos) {
+		this.xpos = xpos;
+		encoded = null;
+	}
+	public int getYpos() {
+		return ypos;
+	}
+	public void setYpos(int ypos) {
+		this.ypos = ypos;
+		encoded = null;
+	}
+	public int getWidth() {
+		return width;
+	}
+	public void setWidth(int width) {
+		this.width = width;
+		encoded = null;
+	}
+	public int getHeight() {
+		return height;
+	}
+	public void setHeight(int height) {
+		this.height = height;
+		encoded = null;
+	}
+	public int getTilex() {
+		return tilex;
+	}
+	public void setTilex(int tilex) {
+		this.tilex = tilex;
+		encoded = null;
+	}
+	public int getTiley() {
+		return tiley;
+	}
+	public void setTiley(int tiley) {
+		this.tiley = tiley;
+		encoded = null;
+	}
+	/**
+	 * Returns the JSON for this tile, it is only encoded the first time it is
+	 * needed. The returned node is shared so must not be modified.
+	 * @return
+	 */
+	@JsonIgnore
+	public JsonNode getEncoded() {
+		JsonNode node = encoded;
+		if (node==null) {
+			node = CommandEncoder.toJson(this);
+			encoded = node;
+		}
+		return node;
+	}
+	public String toString() {
+		return "["+this.getTilex()+","+this.getTiley()+"]";
+	}
+	
+	/**
+	 * Loads a tile from a configuration file
+	 * parameters.
+	 * @param configFile
+	 * @return
+	 */
+	public static Tile constructTile(String configFile) {
+		
+		try {
+			Tile tile = mapper.readValue(new File(configFile), Tile.class);
+			return tile;
+		} catch (Exception e) {
+			e.printStackTrace();
+			
+		}
+		return null;
+		
+	}
+
+	/** sets a unit to the given tile
+	 * 
+	 * @param unit
+	 */
+	public void setUnitToTile(Unit unit) {
+		Unit previous=this.unit;
+		this.unit=unit;
+		if (board!=null) board.unitChanged(this, previous, unit);
+	}
+	
+	/** Returns the unit on the tile
+	 * 
+	 * @return
+	 */
+	public Unit getUnitFromTile() {
+		// TODO Auto-generated method stub
+		return unit;
+	}
+
+
+	
+	
+}
@@ -1,19 +1,19 @@
-package structures.basic;
-
-/**
- * This is an enumerate that simply holds the names
- * of the various unit animation states.
- * 
- * @author Dr. Richard McCreadie
- *
- */
-public enum UnitAnimationType {
-
-	idle,
-	death,
-	attack,
-	move,
-	channel,
-	hit
-	
-}
+package structures.basic;
+
+/**
+ * This is an enumerate that simply holds the names
+ * of the various unit animation states.
+ * 
+ * @author Dr. Richard McCreadie
+ *
+ */
+public enum UnitAnimationType {
+
+	idle,
+	death,
+	attack,
+	move,
+	channel,
+	hit
+	
+}
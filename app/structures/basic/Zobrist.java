@@ -0,0 +1,75 @@
+package structures.basic;
+
+/**
+ * The keys of the Zobrist hash of a game position (see GameState.getZobristHash). A position's
+ * hash is the XOR of one key for each unit on the board (its cell, id, owner, health and attack),
+ * one for each card in each player's hand, one for each player's mana, and one more when it is
+ * player 2's turn. XOR undoes itself, so when something changes only its old key is XORed out
+ * and its new key XORed in, and the hash is kept up to date as the game is played: the Board
+ * does this for the units (Board.getHash) and each Player for its hand and mana (Player.getHash).
+ *
+ * Instead of tables of random numbers the keys are worked out by mixing the bits of what they
+ * stand for (the SplitMix64 finaliser), which gives keys as good as random ones for any size of
+ * board or range of health without having to store them. The same position always gets the
+ * same hash, in every game and every run.
+ *
+ */
+public final class Zobrist {
+
+    // what a key stands for, kept in the top bits so keys for different things never share an input
+    private static final long UNIT = 1L << 60;
+    private static final long OWNER = 2L << 60;
+    private static final long HEALTH = 3L << 60;
+    private static final long ATTACK = 4L << 60;
+    private static final long HAND = 5L << 60;
+    private static final long MANA = 6L << 60;
+
+    // XORed in when it is player 2's turn
+    public static final long PLAYER2_TO_MOVE = mix(7L << 60);
+
+    private Zobrist() {}
+
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long key(long kind, int a, int b) {
+        return mix(kind | ((a & 0xFFFFFFL) << 32) | (b & 0xFFFFFFFFL));
+    }
+
+    /**
+     * The key of a unit on a cell, from the unit's id, owner, health and attack
+     *
+     * @param cell
+     * @param id
+     * @param owner
+     * @param health
+     * @param attack
+     * @return
+     */
+    public static long unitKey(int cell, int id, int owner, int health, int attack) {
+        return key(UNIT, cell, id) ^ key(OWNER, cell, owner) ^ key(HEALTH, cell, health) ^ key(ATTACK, cell, attack);
+    }
+
+    public static long unitKey(int cell, Unit unit) {
+        return unitKey(cell, unit.getId(), unit.getIsPlayer(), unit.getHealth(), unit.getAttack());
+    }
+
+    /**
+     * The key of a card in a player's hand. Where in the hand it is does not matter
+     *
+     * @param playerID
+     * @param cardID
+     * @return
+     */
+    public static long handKey(int playerID, int cardID) {
+        return key(HAND, playerID, cardID);
+    }
+
+    public static long manaKey(int playerID, int mana) {
+        return key(MANA, playerID, mana);
+    }
+}
@@ -1,5 +1,8 @@
 package utils;
 
+import commands.AnimationTimeline;
+import commands.CommandBatch;
+import structures.GameState;
 
 /**
 * This class file will be used to store all of the constant values that are 
@@ -36,6 +39,34 @@ public class AppConstants {
 	public static long effectSleepTime=500;
 	public static long drawTileSleepTime=1;
 	
+	// Set to true to send the commands of each event as one 'commandBatch' message (see CommandBatch),
+	// the front-end has to be able to play these back
+	public static boolean commandBatching=false;
+	
+	// Websocket constants, see OutboundBuffer
+	public static int outboundBufferSize=512; // messages waiting for a slow browser before the connection is closed
+	public static int outboundQueueSize=16; // messages held by the stream itself
+	
+	// The AI's planner: "greedy" plays by ComputerPlayer's own rules, "mcts" searches each turn
+	// with MctsEngine, stopping after mctsIterations playouts, and "alphabeta" with AlphaBetaEngine,
+	// to alphaBetaDepth actions ahead. Either search also stops when the turn's time is up
+	public static String aiEngine="greedy";
+	public static int mctsIterations=20000;
+	public static int alphaBetaDepth=8;
+	
+	// How long the AI's planner may think in a turn at each difficulty ("easy", "normal" or "hard"),
+	// in milliseconds. The planner always has a legal turn ready when the time is up
+	public static String aiDifficulty="normal";
+	public static long aiEasyTurnMillis=100;
+	public static long aiNormalTurnMillis=500;
+	public static long aiHardTurnMillis=2000;
+	// the most threads of the shared AI pool (see ai.AiPool) one game's search may use at once
+	public static int aiMaxParallelism=2;
+	// The threads the AI turns of all games share (see ai.AiExecutor), and the most turns that may wait
+	// for one before an AI has to pass its turn
+	public static int aiTurnThreads=Math.max(2, Runtime.getRuntime().availableProcessors());
+	public static int aiTurnQueueLimit=64;
+	
 	// AI action codes
 	public static String move="move";
 	public static String attack="attack";
@@ -99,6 +130,10 @@ public class AppConstants {
 	}
 	
 	public static void callSleep(long millis) {
+		GameState game = HeadlessGame.current();
+		if (game!=null && game.headless) return; // nothing is watching, so there is nothing to pace
+		if (CommandBatch.delay(millis)) return; // the front-end will wait instead when it plays the batch back
+		if (AnimationTimeline.delay(millis)) return; // the following commands are held back instead of the thread
 		try {
 			Thread.sleep(millis);
 		} catch (InterruptedException e) {
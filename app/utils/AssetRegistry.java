@@ -0,0 +1,192 @@
+package utils;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import structures.basic.Card;
+import structures.basic.EffectAnimation;
+import structures.basic.Tile;
+import structures.basic.Unit;
+
+/**
+ * Holds the parsed contents of the configuration files in conf/gameconfs so they are only
+ * read from disk once. preload() parses every file listed in StaticConfFiles, it is called
+ * when the application starts (see GameScreenController), and any file asked for later
+ * that was not preloaded is parsed the first time it is needed.
+ *
+ * Effects are never changed once loaded, so getEffect returns the same EffectAnimation
+ * every time. Units and cards are changed during a game, so each game gets its own, but
+ * only their small per-game state (id, health, attack, position, flags) is new. The parts
+ * that never change, a unit's UnitAnimationSet and ImageCorrection and a card's MiniCard and
+ * BigCard, are taken from a prototype built once per file and shared by every copy, so they
+ * must not be changed. Tiles are built new from the parsed tree each time.
+ *
+ */
+public class AssetRegistry {
+
+	private static final ObjectMapper mapper = new ObjectMapper();
+
+	private static final Map<String,JsonNode> trees = new ConcurrentHashMap<String,JsonNode>();
+	private static final Map<String,EffectAnimation> effects = new ConcurrentHashMap<String,EffectAnimation>();
+	private static final Map<String,Prototype<Unit>> unitPrototypes = new ConcurrentHashMap<String,Prototype<Unit>>();
+	private static final Map<String,Prototype<Card>> cardPrototypes = new ConcurrentHashMap<String,Prototype<Card>>();
+
+	/**
+	 * A unit or card built once from a file, holding the parts every copy shares, and the
+	 * rest of the file's tree (without those parts) that each copy is built from
+	 */
+	private static class Prototype<T> {
+		final T shared;
+		final ObjectNode state;
+
+		Prototype(T shared, ObjectNode state) {
+			this.shared = shared;
+			this.state = state;
+		}
+	}
+
+	/**
+	 * Parses every configuration file listed in StaticConfFiles, and builds the shared
+	 * effects and the unit and card prototypes
+	 * @return the number of files loaded
+	 */
+	public static int preload() {
+		int loaded = 0;
+		for (Field field : StaticConfFiles.class.getFields()) {
+			if (!Modifier.isStatic(field.getModifiers()) || field.getType()!=String.class) continue;
+			try {
+				String configFile = (String) field.get(null);
+				if (!new File(configFile).exists()) {
+					AppConstants.printLog("AssetRegistry: "+configFile+" not found, skipping");
+					continue;
+				}
+				getTree(configFile);
+				if (configFile.contains("/effects/")) getEffect(configFile);
+				else if (configFile.contains("/cards/")) cardPrototype(configFile);
+				else if (configFile.contains("/units/") || configFile.contains("/avatars/")) unitPrototype(configFile);
+				loaded++;
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+		AppConstants.printLog("AssetRegistry: preloaded "+loaded+" configuration files");
+		return loaded;
+	}
+
+	/**
+	 * Returns the parsed contents of a configuration file, reading it if it has not been yet.
+	 * The tree is shared and must not be modified
+	 * @param configFile
+	 * @return
+	 */
+	public static JsonNode getTree(String configFile) {
+		return trees.computeIfAbsent(configFile, file -> {
+			try {
+				return mapper.readTree(new File(file));
+			} catch (Exception e) {
+				throw new IllegalArgumentException("Could not load "+file, e);
+			}
+		});
+	}
+
+	/**
+	 * Returns the shared EffectAnimation for a configuration file, it must not be modified
+	 * @param configFile
+	 * @return
+	 */
+	public static EffectAnimation getEffect(String configFile) {
+		return effects.computeIfAbsent(configFile, file -> build(getTree(file), EffectAnimation.class, file));
+	}
+
+	/**
+	 * Builds a new unit (or anything that extends Unit) from a configuration file, sharing
+	 * its animations and image correction with the other units built from that file
+	 * @param configFile
+	 * @param id
+	 * @param classType
+	 * @return
+	 */
+	public static <T extends Unit> T createUnit(String configFile, int id, Class<T> classType) {
+		Prototype<Unit> prototype = unitPrototype(configFile);
+		T unit = build(prototype.state, classType, configFile);
+		unit.setAnimations(prototype.shared.getAnimations());
+		unit.setCorrection(prototype.shared.getCorrection());
+		unit.setId(id);
+		return unit;
+	}
+
+	/**
+	 * Builds a new card (or anything that extends Card) from a configuration file, sharing
+	 * its mini and big card with the other cards built from that file
+	 * @param configFile
+	 * @param id
+	 * @param classType
+	 * @return
+	 */
+	public static <T extends Card> T createCard(String configFile, int id, Class<T> classType) {
+		Prototype<Card> prototype = cardPrototype(configFile);
+		T card = build(prototype.state, classType, configFile);
+		card.setMiniCard(prototype.shared.getMiniCard());
+		card.setBigCard(prototype.shared.getBigCard());
+		card.setId(id);
+		return card;
+	}
+
+	private static Prototype<Unit> unitPrototype(String configFile) {
+		return unitPrototypes.computeIfAbsent(configFile, file -> prototype(file, Unit.class, "animations", "correction"));
+	}
+
+	private static Prototype<Card> cardPrototype(String configFile) {
+		return cardPrototypes.computeIfAbsent(configFile, file -> prototype(file, Card.class, "miniCard", "bigCard"));
+	}
+
+	private static <T> Prototype<T> prototype(String configFile, Class<T> classType, String... sharedFields) {
+		T shared = build(getTree(configFile), classType, configFile);
+		ObjectNode state = ((ObjectNode) getTree(configFile)).deepCopy();
+		state.remove(Arrays.asList(sharedFields));
+		return new Prototype<T>(shared, state);
+	}
+
+	/**
+	 * Builds a new tile from a configuration file
+	 * @param configFile
+	 * @return
+	 */
+	public static Tile createTile(String configFile) {
+		return build(getTree(configFile), Tile.class, configFile);
+	}
+
+	private static <T> T build(JsonNode tree, Class<T> classType, String configFile) {
+		try {
+			return mapper.treeToValue(tree, classType);
+		} catch (Exception e) {
+			throw new IllegalArgumentException("Could not build a "+classType.getSimpleName()+" from "+configFile, e);
+		}
+	}
+
+	/**
+	 * Number of configuration files currently held
+	 * @return
+	 */
+	public static int size() {
+		return trees.size();
+	}
+
+	/**
+	 * Forgets everything loaded, so the files are read again when next needed
+	 */
+	public static void clear() {
+		trees.clear();
+		effects.clear();
+		unitPrototypes.clear();
+		cardPrototypes.clear();
+	}
+}
@@ -0,0 +1,153 @@
+package utils;
+
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import commands.DummyTell;
+import commands.RecordingTell;
+import events.EndTurnClicked;
+import events.Heartbeat;
+import events.Initalize;
+import events.TileClicked;
+import play.libs.Json;
+import structures.GameState;
+
+/**
+ * Runs a game without a front-end, for simulations, regression runs and load tests.
+ *
+ * The game's GameState is marked headless and given a RecordingTell (or any DummyTell given).
+ * While one of its events is being processed, the game is attached to the thread (see current),
+ * so AppConstants.callSleep returns straight away, the AI plays its turn on the calling thread
+ * and BasicCommands sends the commands to the tell. A whole game from initalize to game over
+ * then takes milliseconds. The game is also attached to the thread that creates it, for calls
+ * made straight on its GameState, until close() is called.
+ *
+ * Nothing static is changed, so live games in the same server are paced as usual and several
+ * headless games can run at once, each on its own thread.
+ *
+ */
+public class HeadlessGame implements AutoCloseable {
+
+	private static final ThreadLocal<GameState> current = new ThreadLocal<GameState>();
+
+	private final GameState gameState = new GameState();
+	private final DummyTell tell;
+	private final GameState previous; // the game attached to the creating thread before this one
+
+	public HeadlessGame() {
+		this(new RecordingTell(false));
+	}
+
+	public HeadlessGame(DummyTell tell) {
+		this.tell = tell;
+		gameState.headless = true;
+		gameState.tell = tell;
+
+		previous = current.get();
+		current.set(gameState);
+	}
+
+	/**
+	 * The game of the headless event being processed on this thread, null if there is none
+	 * @return
+	 */
+	public static GameState current() {
+		return current.get();
+	}
+
+	// processes an event with this game attached to the thread
+	private void process(Runnable event) {
+		GameState outer = current.get();
+		current.set(gameState);
+		try {
+			event.run();
+		} finally {
+			restore(outer);
+		}
+	}
+
+	private static void restore(GameState game) {
+		if (game==null) current.remove();
+		else current.set(game);
+	}
+
+	/**
+	 * Sets up the board and players, as when the front-end sends 'initalize'
+	 * @return
+	 */
+	public GameState initalize() {
+		ObjectNode message = Json.newObject();
+		message.put("messagetype", "initalize");
+		process(() -> new Initalize().processEvent(null, gameState, message));
+		heartbeat(); // makes the game active
+		return gameState;
+	}
+
+	/**
+	 * Sends a heartbeat, which is where the game checks whether it is over
+	 */
+	public void heartbeat() {
+		ObjectNode message = Json.newObject();
+		message.put("messagetype", "heartbeat");
+		process(() -> new Heartbeat().processEvent(null, gameState, message));
+	}
+
+	/**
+	 * Clicks a tile as the human player would
+	 * @param tilex
+	 * @param tiley
+	 */
+	public void clickTile(int tilex, int tiley) {
+		ObjectNode message = Json.newObject();
+		message.put("messagetype", "tileclicked");
+		message.put("tilex", tilex);
+		message.put("tiley", tiley);
+		process(() -> new TileClicked().processEvent(null, gameState, message));
+	}
+
+	/**
+	 * Ends the human player's turn, the AI then plays its turn before this returns
+	 */
+	public void endTurn() {
+		ObjectNode message = Json.newObject();
+		message.put("messagetype", "endturnclicked");
+		process(() -> new EndTurnClicked().processEvent(null, gameState, message));
+	}
+
+	/**
+	 * Plays rounds until the game is over or maxTurns have been played. Each round player1Turn
+	 * makes the human player's moves (it may do nothing), then the turn is ended and the AI plays
+	 * @param maxTurns
+	 * @param player1Turn
+	 * @return the number of rounds played
+	 */
+	public int playUntilGameOver(int maxTurns, Consumer<HeadlessGame> player1Turn) {
+		int turns = 0;
+		while (turns<maxTurns && !gameState.isGameOver) {
+			process(() -> player1Turn.accept(this));
+			heartbeat();
+			if (gameState.isGameOver) break;
+			endTurn();
+			heartbeat();
+			turns++;
+		}
+		return turns;
+	}
+
+	public GameState getGameState() {
+		return gameState;
+	}
+
+	public DummyTell getTell() {
+		return tell;
+	}
+
+	/**
+	 * Detaches the game from the thread that created it, which must be the thread calling this
+	 */
+	@Override
+	public void close() {
+		if (current.get()==gameState) restore(previous);
+	}
+}
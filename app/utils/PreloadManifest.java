@@ -0,0 +1,112 @@
+package utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+/**
+ * The list of images the front-end preloads, sent in the 'actorReady' message.
+ *
+ * The list used to be rebuilt and serialized for every GameActor. A manifest is now built
+ * once for each combination of decks and kept as encoded JSON, which is put straight into
+ * the actorReady message (see getRawValue). Each manifest also has a SHA-256 hash of its
+ * contents. A front-end that still has the images from an earlier visit can pass that hash
+ * as the 'preloadHash' query parameter of the websocket URL, and if it matches the list is
+ * not sent again (the actorReady message then only has the hash).
+ *
+ * The images common to every game (UI, tiles, avatars and effects) come first, followed
+ * by the images of each deck in play, so the ones needed straight away load first.
+ *
+ */
+public class PreloadManifest {
+
+	private static final ObjectMapper mapper = new ObjectMapper();
+
+	private static final Map<String,PreloadManifest> manifests = new ConcurrentHashMap<String,PreloadManifest>();
+
+	private final List<String> images;
+	private final byte[] encoded;
+	private final RawValue rawValue;
+	private final String hash;
+
+	private PreloadManifest(Set<String> images) {
+		this.images = Collections.unmodifiableList(new ArrayList<String>(images));
+		try {
+			encoded = mapper.writeValueAsBytes(this.images);
+			hash = sha256(encoded);
+		} catch (Exception e) {
+			throw new IllegalStateException("Could not encode the preload manifest", e);
+		}
+		rawValue = new RawValue(new String(encoded, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Returns the manifest for a game between the given decks (1 for the human player's,
+	 * 2 for the AI's), building it the first time it is asked for
+	 * @param decks
+	 * @return
+	 */
+	public static PreloadManifest forDecks(int... decks) {
+		return manifests.computeIfAbsent(Arrays.toString(decks), key -> {
+			Set<String> images = new LinkedHashSet<String>(ImageListForPreLoad.getCommonImages());
+			for (int deck : decks) images.addAll(ImageListForPreLoad.getDeckImages(deck));
+			return new PreloadManifest(images);
+		});
+	}
+
+	/**
+	 * The manifest for the decks every game currently uses
+	 * @return
+	 */
+	public static PreloadManifest forGame() {
+		return forDecks(1, 2);
+	}
+
+	private static String sha256(byte[] bytes) throws Exception {
+		byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+		StringBuilder hex = new StringBuilder(digest.length*2);
+		for (byte b : digest) hex.append(String.format("%02x", b));
+		return hex.toString();
+	}
+
+	public List<String> getImages() {
+		return images;
+	}
+
+	/**
+	 * The encoded JSON array of images, this is shared and must not be modified
+	 * @return
+	 */
+	public byte[] getEncoded() {
+		return encoded;
+	}
+
+	/**
+	 * The encoded list as a value that can be put into an ObjectNode without encoding it again
+	 * @return
+	 */
+	public RawValue getRawValue() {
+		return rawValue;
+	}
+
+	public String getHash() {
+		return hash;
+	}
+
+	/**
+	 * Forgets the manifests built so far, for when the configuration files change
+	 */
+	public static void clear() {
+		manifests.clear();
+	}
+}
@@ -0,0 +1,87 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import ai.AiExecutor;
+
+public class AiExecutorTest {
+
+	// a turn that holds its thread until released
+	Runnable blocking(CountDownLatch started, CountDownLatch release) {
+		return () -> {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+	}
+
+/** Test that turns past the queue limit are turned away, and that the running and waiting turns and the wait are counted
+ *
+ */
+	@Test
+	public void queueLimitAndMetrics() throws Exception {
+		AiExecutor executor = new AiExecutor(1, 1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		FutureTask<Void> first = executor.submit(blocking(started, release));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		FutureTask<Void> second = executor.submit(() -> {});
+
+		assertEquals(1, executor.getActiveTurns());
+		assertEquals(1, executor.getQueuedTurns());
+		try {
+			executor.submit(() -> {});
+			fail("the queue is full");
+		} catch (RejectedExecutionException e) {
+			assertEquals(1, executor.getRejectedTurns());
+		}
+
+		Thread.sleep(20);
+		release.countDown();
+		first.get(5, TimeUnit.SECONDS);
+		second.get(5, TimeUnit.SECONDS);
+		assertEquals(0, executor.getActiveTurns());
+		assertEquals(0, executor.getQueuedTurns());
+		assertEquals(2, executor.getCompletedTurns());
+		assertTrue(executor.getMaxWaitMillis() >= 20);
+		assertTrue(executor.getAverageWaitMillis() > 0);
+	}
+
+/** Test that cancelling takes a waiting turn out of the queue and interrupts a running one
+ *
+ */
+	@Test
+	public void cancelStopsTurns() throws Exception {
+		AiExecutor executor = new AiExecutor(1, 4);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch never = new CountDownLatch(1);
+		FutureTask<Void> running = executor.submit(blocking(started, never));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		AtomicBoolean ran = new AtomicBoolean();
+		FutureTask<Void> waiting = executor.submit(() -> ran.set(true));
+
+		executor.cancel(waiting);
+		assertEquals(0, executor.getQueuedTurns());
+		executor.cancel(running);
+		assertTrue(running.isCancelled());
+
+		// the thread is free again once the running turn has stopped
+		CountDownLatch next = new CountDownLatch(1);
+		executor.submit(next::countDown);
+		assertTrue(next.await(5, TimeUnit.SECONDS));
+		assertFalse(ran.get());
+	}
+
+}
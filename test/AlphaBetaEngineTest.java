@@ -0,0 +1,163 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import ai.Action;
+import ai.AlphaBetaEngine;
+import ai.SearchState;
+import structures.GameSnapshot;
+import structures.GameState;
+import structures.basic.Board;
+import structures.basic.Tile;
+import structures.basic.Unit;
+import utils.HeadlessGame;
+
+public class AlphaBetaEngineTest {
+
+	int countUnits(SearchState state) {
+		int units = 0;
+		for (int cell = 0; cell < state.getCellCount(); cell++) if (state.getUnitId(cell) >= 0) units++;
+		return units;
+	}
+
+	List<Action> legal(SearchState state) {
+		List<Action> actions = new ArrayList<>();
+		state.legalActions(actions);
+		return actions;
+	}
+
+/** Test that unmake takes back everything make did, through several turns of random actions
+ *
+ */
+	@Test
+	public void unmakeRestoresState() {
+		try (HeadlessGame game = new HeadlessGame()) {
+			GameSnapshot snapshot = GameSnapshot.of(game.initalize());
+			SearchState state = new SearchState(snapshot);
+			Random random = new Random(5);
+
+			List<Long> hashes = new ArrayList<>();
+			List<List<Action>> legalBefore = new ArrayList<>();
+			for (int i = 0; i < 60 && !state.isOver(); i++) {
+				List<Action> actions = legal(state);
+				hashes.add(state.getHash());
+				legalBefore.add(actions);
+				state.make(actions.get(random.nextInt(actions.size())));
+				assertEquals(state.computeHash(), state.getHash());
+				assertEquals(countUnits(state), state.getUnitCount());
+			}
+			for (int i = hashes.size() - 1; i >= 0; i--) {
+				state.unmake();
+				assertEquals((long) hashes.get(i), state.getHash());
+				assertEquals(state.computeHash(), state.getHash());
+				assertEquals(legalBefore.get(i), legal(state));
+				assertEquals(countUnits(state), state.getUnitCount());
+			}
+			assertEquals(snapshot.getZobristHash(), state.getHash());
+			assertEquals(1, state.getTurnPlayer());
+			assertEquals(0, state.getTurnActions());
+		}
+	}
+
+/** Test that the search finds the attack that kills the enemy avatar and plays it first
+ *
+ */
+	@Test
+	public void findsAvatarKill() {
+		try (HeadlessGame game = new HeadlessGame()) {
+			GameState gameState = game.initalize();
+			Board board = gameState.board;
+			Tile enemy = board.getTileOfUnit(41);
+			Tile avatarTile = board.getTileOfUnit(40);
+			Unit avatar = avatarTile.getUnitFromTile();
+			avatarTile.setUnitToTile(null);
+			board.addUnitToBoard(enemy.getTilex() - 1, enemy.getTiley(), avatar);
+			enemy.getUnitFromTile().setHealth(avatar.getAttack()); // the unit on the board, not the player's BetterUnit
+			gameState.player2.getAvatar().setHealth(avatar.getAttack());
+
+			GameSnapshot snapshot = GameSnapshot.of(gameState);
+			AlphaBetaEngine engine = new AlphaBetaEngine(3, 0);
+			List<Action> plan = engine.planTurn(snapshot);
+
+			int enemyCell = board.cellIndex(enemy);
+			assertEquals(Action.attack(board.cellIndex(enemy.getTilex() - 1, enemy.getTiley()), enemyCell), plan.get(0));
+			assertEquals(1, plan.size());
+			assertTrue(engine.getLastNodes() > 0);
+			assertEquals(3, engine.getLastDepth());
+		}
+	}
+
+/** Test that the AI can play a whole game with its turns planned by alpha-beta, only playing legal actions
+ *
+ */
+	@Test
+	public void alphaBetaPlaysWholeGame() {
+		try (HeadlessGame game = new HeadlessGame()) {
+			GameState gameState = game.initalize();
+			AlphaBetaEngine engine = new AlphaBetaEngine(4, 200);
+			gameState.player2.setPlanner(snapshot -> {
+				List<Action> plan = engine.planTurn(snapshot);
+				SearchState state = new SearchState(snapshot);
+				for (Action action : plan) {
+					assertTrue(action + " is not legal", legal(state).contains(action));
+					state.apply(action);
+				}
+				return plan;
+			});
+			int turns = game.playUntilGameOver(200, HeadlessGameTest::walkToAIAvatar);
+
+			assertTrue(gameState.isGameOver);
+			assertTrue(turns > 0);
+		}
+	}
+
+/** Test that searching the first actions in parallel gives the same plans as searching on one thread
+ *
+ */
+	@Test
+	public void parallelGivesSamePlan() {
+		try (HeadlessGame game = new HeadlessGame()) {
+			GameState gameState = game.initalize();
+			AlphaBetaEngine alone = new AlphaBetaEngine(3, 0);
+			AlphaBetaEngine parallel = new AlphaBetaEngine(3, 0, 3);
+			assertEquals(3, parallel.getParallelism());
+			for (int turn = 0; turn < 4 && !gameState.isGameOver; turn++) {
+				GameSnapshot snapshot = GameSnapshot.of(gameState);
+				assertEquals(alone.planTurn(snapshot), parallel.planTurn(snapshot));
+				assertEquals(alone.getLastDepth(), parallel.getLastDepth());
+				// the tasks share the best value, so splitting the work adds little to it
+				assertTrue(parallel.getLastNodes() + " positions searched in parallel, " + alone.getLastNodes() + " alone",
+						parallel.getLastNodes() <= alone.getLastNodes() + alone.getLastNodes() / 20);
+				HeadlessGameTest.walkToAIAvatar(game);
+				game.endTurn();
+			}
+		}
+	}
+
+/** Test that a parallel search with a deep limit stops at its time limit with a legal plan
+ *
+ */
+	@Test
+	public void parallelSearchKeepsToTime() {
+		try (HeadlessGame game = new HeadlessGame()) {
+			GameSnapshot snapshot = GameSnapshot.of(game.initalize());
+			AlphaBetaEngine engine = new AlphaBetaEngine(30, 100, 4);
+			long start = System.currentTimeMillis();
+			List<Action> plan = engine.planTurn(snapshot);
+			assertTrue(System.currentTimeMillis() - start < 1000);
+			assertTrue(engine.getLastDepth() >= 1);
+
+			SearchState state = new SearchState(snapshot);
+			for (Action action : plan) {
+				assertTrue(action + " is not legal", legal(state).contains(action));
+				state.apply(action);
+			}
+		}
+	}
+
+}
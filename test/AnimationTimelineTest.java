@@ -0,0 +1,144 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import akka.actor.Cancellable;
+import commands.AnimationTimeline;
+import commands.BasicCommands;
+import commands.DummyTell;
+import utils.AppConstants;
+
+public class AnimationTimelineTest {
+
+	List<ObjectNode> sent;
+	TestTimeline timeline;
+
+	/**
+	 * A timeline with a clock the test moves by hand and a scheduler that just
+	 * remembers the task, so nothing depends on real time
+	 */
+	static class TestTimeline extends AnimationTimeline {
+		long time = 1000;
+		Runnable scheduledTask;
+		long scheduledDelay;
+
+		TestTimeline() {
+			super(null, null, null);
+		}
+
+		@Override
+		protected Cancellable scheduleOnce(long delayMillis, Runnable task) {
+			scheduledTask = task;
+			scheduledDelay = delayMillis;
+			return new Cancellable() {
+				public boolean cancel() { return true; }
+				public boolean isCancelled() { return false; }
+			};
+		}
+
+		@Override
+		protected long now() {
+			return time;
+		}
+
+		// moves the clock on and runs the scheduled task, as the ActorSystem scheduler would
+		void runAfter(long millis) {
+			time += millis;
+			Runnable task = scheduledTask;
+			scheduledTask = null;
+			if (task!=null) task.run();
+		}
+	}
+
+	@Before
+	public void setUp() {
+		sent = new ArrayList<ObjectNode>();
+		BasicCommands.altTell = new DummyTell() {
+			@Override
+			public void tell(ObjectNode message) {
+				sent.add(message);
+			}
+		};
+
+		timeline = new TestTimeline();
+		AnimationTimeline.attach(timeline);
+	}
+
+	@After
+	public void tearDown() {
+		AnimationTimeline.detach();
+	}
+
+/** Test that callSleep does not block and the commands after it are held back until they are due
+ *
+ */
+	@Test
+	public void sleepsDoNotBlock() {
+		long start = System.currentTimeMillis();
+
+		BasicCommands.deleteCard(null, 1);
+		AppConstants.callSleep(2000);
+		BasicCommands.deleteCard(null, 2);
+		AppConstants.callSleep(3000);
+		BasicCommands.deleteCard(null, 3);
+
+		// the thread was never put to sleep
+		assertTrue(System.currentTimeMillis()-start < 1000);
+
+		// only the first command was due
+		assertEquals(1, sent.size());
+		assertEquals(2, timeline.getPendingCommands());
+		assertEquals(2000, timeline.scheduledDelay);
+
+		timeline.runAfter(2000);
+		assertEquals(2, sent.size());
+		assertEquals(3000, timeline.scheduledDelay);
+
+		timeline.runAfter(3000);
+		assertEquals(3, sent.size());
+		assertEquals(0, timeline.getPendingCommands());
+
+		// commands go out in the order they were sent
+		for (int i = 0; i < 3; i++) assertEquals(i+1, sent.get(i).get("position").asInt());
+	}
+
+/** Test that commands from a later event wait behind the ones still queued
+ *
+ */
+	@Test
+	public void laterCommandsQueueBehind() {
+		AppConstants.callSleep(1500);
+		BasicCommands.deleteCard(null, 1);
+
+		// time passes but not enough for the first command
+		timeline.time += 500;
+		BasicCommands.deleteCard(null, 2);
+		assertEquals(0, sent.size());
+
+		timeline.runAfter(1000);
+		assertEquals(2, sent.size());
+		assertEquals(1, sent.get(0).get("position").asInt());
+	}
+
+/** Test that stopping the timeline drops the commands still waiting
+ *
+ */
+	@Test
+	public void stopDropsPendingCommands() {
+		AppConstants.callSleep(1000);
+		BasicCommands.deleteCard(null, 1);
+		timeline.stop();
+
+		timeline.runAfter(1000);
+		assertEquals(0, sent.size());
+	}
+
+}
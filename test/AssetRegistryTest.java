@@ -0,0 +1,78 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import structures.basic.Card;
+import structures.basic.EffectAnimation;
+import structures.basic.Unit;
+import utils.AssetRegistry;
+import utils.BasicObjectBuilders;
+import utils.StaticConfFiles;
+
+public class AssetRegistryTest {
+
+/** Test that preloading parses the configuration files listed in StaticConfFiles
+ *
+ */
+	@Test
+	public void preloadReadsConfFiles() {
+		AssetRegistry.clear();
+		int loaded = AssetRegistry.preload();
+
+		assertTrue(loaded>0);
+		assertEquals(loaded, AssetRegistry.size());
+	}
+
+/** Test that the same effect object is handed out for the same file
+ *
+ */
+	@Test
+	public void effectsShared() {
+		EffectAnimation first = BasicObjectBuilders.loadEffect(StaticConfFiles.f1_buff);
+		EffectAnimation second = BasicObjectBuilders.loadEffect(StaticConfFiles.f1_buff);
+
+		assertSame(first, second);
+	}
+
+/** Test that each unit and card is a separate copy, so changing one does not change the others
+ *
+ */
+	@Test
+	public void unitsAndCardsCopied() {
+		Unit first = BasicObjectBuilders.loadUnit(StaticConfFiles.u_comodo_charger, 0, Unit.class);
+		Unit second = BasicObjectBuilders.loadUnit(StaticConfFiles.u_comodo_charger, 12, Unit.class);
+		assertNotSame(first, second);
+
+		first.setHealth(first.getHealth()+5);
+		assertEquals(0, first.getId());
+		assertEquals(12, second.getId());
+		assertEquals(first.getHealth()-5, second.getHealth());
+
+		Card card = BasicObjectBuilders.loadCard(StaticConfFiles.c_comodo_charger, 0, Card.class);
+		Card copy = BasicObjectBuilders.loadCard(StaticConfFiles.c_comodo_charger, 12, Card.class);
+		assertNotSame(card, copy);
+		assertEquals(card.getCardname(), copy.getCardname());
+	}
+
+/** Test that the parts of units and cards that never change are shared, while their state is not
+ *
+ */
+	@Test
+	public void staticPartsShared() {
+		Unit first = BasicObjectBuilders.loadUnit(StaticConfFiles.u_fire_spitter, 2, Unit.class);
+		Unit second = BasicObjectBuilders.loadUnit(StaticConfFiles.u_fire_spitter, 11, Unit.class);
+		assertSame(first.getAnimations(), second.getAnimations());
+		assertSame(first.getCorrection(), second.getCorrection());
+		assertNotSame(first.getPosition(), second.getPosition());
+
+		Card card = BasicObjectBuilders.loadCard(StaticConfFiles.c_fire_spitter, 2, Card.class);
+		Card copy = BasicObjectBuilders.loadCard(StaticConfFiles.c_fire_spitter, 11, Card.class);
+		assertSame(card.getMiniCard(), copy.getMiniCard());
+		assertSame(card.getBigCard(), copy.getBigCard());
+		assertEquals(card.getManacost(), copy.getManacost());
+	}
+
+}
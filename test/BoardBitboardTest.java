@@ -0,0 +1,150 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import commands.BasicCommands;
+import structures.GameState;
+import structures.basic.Board;
+import structures.basic.Player;
+import structures.basic.Tile;
+import structures.basic.Unit;
+import utils.AppConstants;
+import utils.HeadlessGame;
+
+public class BoardBitboardTest {
+
+	HeadlessGame game;
+	GameState gameState;
+	Board board;
+
+	@Before
+	public void setUp() {
+		BasicCommands.altTell = null;
+		game = new HeadlessGame();
+		game.initalize();
+		gameState = game.getGameState();
+		board = gameState.board;
+
+		// a few more units for each player, around the middle of the board
+		placeUnit(gameState.player1, 0, 3, 1);
+		placeUnit(gameState.player1, 1, 4, 3);
+		placeUnit(gameState.player2, 0, 4, 2);
+		placeUnit(gameState.player2, 1, 5, 1);
+	}
+
+	@After
+	public void tearDown() {
+		game.close();
+	}
+
+	void placeUnit(Player player, int index, int x, int y) {
+		Unit unit = player.getPlayerUnits().get(index);
+		unit.setIsPlayer(player.getID());
+		board.addUnitToBoard(x, y, unit);
+	}
+
+	/**
+	 * The tiles around (x,y) with a unit that is not the given player's, found the way the
+	 * board used to, by looping over the 3x3 square
+	 */
+	ArrayList<Tile> attackableByLoop(int playerID, int x, int y) {
+		ArrayList<Tile> list = new ArrayList<Tile>();
+		for (int i = -1; i < 2; i++) {
+			for (int j = -1; j < 2; j++) {
+				int newx = x+i;
+				int newy = y+j;
+				if (newx<0 || newx>=AppConstants.boardWidth || newy<0 || newy>=AppConstants.boardHeight || (i==0 && j==0)) continue;
+				Unit unit = board.returnTile(newx, newy).getUnitFromTile();
+				if (unit!=null && unit.getIsPlayer()!=playerID) list.add(board.returnTile(newx, newy));
+			}
+		}
+		return list;
+	}
+
+/** Test that the tiles with and without units come from the bitboards in the same order as looping over the tiles
+ *
+ */
+	@Test
+	public void unitQueriesMatchTiles() {
+		for (Player player : new Player[] {gameState.player1, gameState.player2}) {
+			ArrayList<Tile> expected = new ArrayList<Tile>();
+			for (int x = 0; x < AppConstants.boardWidth; x++) {
+				for (int y = 0; y < AppConstants.boardHeight; y++) {
+					Unit unit = board.returnTile(x, y).getUnitFromTile();
+					if (unit!=null && unit.getIsPlayer()==player.getID()) expected.add(board.returnTile(x, y));
+				}
+			}
+			assertEquals(3, expected.size());
+			assertEquals(expected, board.getTilesWithUnits(null, board.getTiles(), player));
+		}
+
+		ArrayList<Tile> empty = board.getTilesWithoutUnits(null, board.getTiles(), gameState.player1);
+		assertEquals(AppConstants.boardWidth*AppConstants.boardHeight-6, empty.size());
+		for (Tile tile : empty) assertEquals(null, tile.getUnitFromTile());
+	}
+
+/** Test that the attack queries give the same tiles as the 3x3 loops they replaced, from every cell
+ *
+ */
+	@Test
+	public void attackQueriesMatchLoops() {
+		Tile avatarTile = board.returnTile(1, 2);
+		for (int x = 0; x < AppConstants.boardWidth; x++) {
+			for (int y = 0; y < AppConstants.boardHeight; y++) {
+				Tile tile = board.returnTile(x, y);
+				assertEquals(attackableByLoop(1, x, y), board.getAdjacentTilesToAttack(gameState.player1, null, tile));
+				assertEquals(attackableByLoop(2, x, y), board.getAdjacentTilesToAttack(gameState.player2, null, tile));
+
+				ArrayList<Tile> afterMove = attackableByLoop(1, x, y);
+				afterMove.remove(avatarTile);
+				assertEquals(afterMove, board.getAdjacentTilesToAttack(gameState.player1, null, avatarTile, tile));
+
+				int neighbours = board.retrieveAdjacentTilesToAttackPosition(null, tile).size();
+				int columns = (x==0 || x==AppConstants.boardWidth-1) ? 2 : 3;
+				int rows = (y==0 || y==AppConstants.boardHeight-1) ? 2 : 3;
+				assertEquals(columns*rows-1, neighbours);
+			}
+		}
+	}
+
+/** Test that the bitboards follow units as they are moved and removed, and the summon zone with them
+ *
+ */
+	@Test
+	public void occupancyFollowsUnits() {
+		Unit unit = board.returnTile(3, 1).getUnitFromTile();
+		long before = board.getUnitMask(1);
+		assertTrue((before & (1L << board.cellIndex(3, 1))) != 0);
+
+		board.returnTile(3, 1).setUnitToTile(null);
+		board.addUnitToBoard(2, 0, unit);
+		assertEquals(0, board.getUnitMask(1) & (1L << board.cellIndex(3, 1)));
+		assertTrue((board.getUnitMask(1) & (1L << board.cellIndex(2, 0))) != 0);
+		assertEquals(0, board.getUnitMask(2) & (1L << board.cellIndex(2, 0)));
+		assertEquals(Long.bitCount(before), Long.bitCount(board.getUnitMask(1)));
+
+		// the summon zone is the empty tiles next to the player's units
+		long zone = board.getSummonMask(gameState.player1);
+		for (int x = 0; x < AppConstants.boardWidth; x++) {
+			for (int y = 0; y < AppConstants.boardHeight; y++) {
+				boolean expected = board.returnTile(x, y).getUnitFromTile()==null;
+				boolean nextToUnit = false;
+				for (Tile tile : board.getTilesWithUnits(null, board.getTiles(), gameState.player1)) {
+					if (Math.abs(tile.getTilex()-x)<=1 && Math.abs(tile.getTiley()-y)<=1) nextToUnit = true;
+				}
+				expected = expected && nextToUnit;
+				assertEquals(expected, (zone & (1L << board.cellIndex(x, y))) != 0);
+			}
+		}
+
+		board.returnTile(2, 0).setUnitToTile(null);
+		assertEquals(Long.bitCount(before)-1, Long.bitCount(board.getUnitMask(1)));
+		assertEquals(Long.bitCount(board.getUnitMask(1))+Long.bitCount(board.getUnitMask(2)), Long.bitCount(board.getOccupied()));
+	}
+
+}
@@ -0,0 +1,113 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import commands.BasicCommands;
+import commands.CheckMessageIsNotNullOnTell;
+import structures.basic.Board;
+import structures.basic.BoardGeometry;
+import structures.basic.Tile;
+import utils.AppConstants;
+
+public class BoardGeometryTest {
+
+	Board board;
+
+	@Before
+	public void setUp() {
+		BasicCommands.altTell = new CheckMessageIsNotNullOnTell();
+		board = new Board(null);
+	}
+
+	// adds (x,y) to the list if it is on the board
+	void addIfOnBoard(List<Tile> list, int x, int y) {
+		if (x>=0 && x<AppConstants.boardWidth && y>=0 && y<AppConstants.boardHeight) list.add(board.returnTile(x, y));
+	}
+
+/** Test that the adjacent (move) tiles of every cell come out in the order getAdjacentTiles always used
+ *
+ */
+	@Test
+	public void adjacentTilesInOriginalOrder() {
+		for (int x = 0; x < AppConstants.boardWidth; x++) {
+			for (int y = 0; y < AppConstants.boardHeight; y++) {
+				List<Tile> expected = new ArrayList<Tile>();
+				addIfOnBoard(expected, x, y-1);
+				if (y-1>=0) addIfOnBoard(expected, x, y-2);
+				addIfOnBoard(expected, x+1, y);
+				if (x+1<AppConstants.boardWidth) addIfOnBoard(expected, x+2, y);
+				addIfOnBoard(expected, x, y+1);
+				if (y+1<AppConstants.boardHeight) addIfOnBoard(expected, x, y+2);
+				addIfOnBoard(expected, x-1, y);
+				if (x-1>=0) addIfOnBoard(expected, x-2, y);
+				addIfOnBoard(expected, x+1, y-1);
+				addIfOnBoard(expected, x+1, y+1);
+				addIfOnBoard(expected, x-1, y+1);
+				addIfOnBoard(expected, x-1, y-1);
+
+				Tile tile = board.returnTile(x, y);
+				assertEquals(expected, board.getAdjacentTiles(null, tile));
+				for (int i = 0; i < AppConstants.boardWidth; i++) {
+					for (int j = 0; j < AppConstants.boardHeight; j++) {
+						Tile other = board.returnTile(i, j);
+						assertEquals(expected.contains(other), board.isInMoveRange(tile, other));
+					}
+				}
+			}
+		}
+	}
+
+/** Test that the summonable tiles of every cell come out in the order summonableTiles always used
+ *
+ */
+	@Test
+	public void summonTilesInOriginalOrder() {
+		for (int x = 0; x < AppConstants.boardWidth; x++) {
+			for (int y = 0; y < AppConstants.boardHeight; y++) {
+				List<Tile> expected = new ArrayList<Tile>();
+				addIfOnBoard(expected, x-1, y);
+				addIfOnBoard(expected, x, y-1);
+				addIfOnBoard(expected, x, y+1);
+				addIfOnBoard(expected, x+1, y);
+				addIfOnBoard(expected, x-1, y+1);
+				addIfOnBoard(expected, x-1, y-1);
+				addIfOnBoard(expected, x+1, y-1);
+				addIfOnBoard(expected, x+1, y+1);
+
+				Tile tile = board.returnTile(x, y);
+				assertEquals(expected, board.summonableTiles(null, tile));
+				for (Tile other : expected) assertEquals(true, board.isNextTo(tile, other));
+				assertEquals(false, board.isNextTo(tile, tile));
+			}
+		}
+	}
+
+/** Test that boards of the same size share their geometry and that the cell lists match the masks
+ *
+ */
+	@Test
+	public void geometrySharedAndConsistent() {
+		BoardGeometry geometry = board.getGeometry();
+		assertSame(geometry, new Board(null).getGeometry());
+
+		for (int cell = 0; cell < AppConstants.boardWidth*AppConstants.boardHeight; cell++) {
+			long attack = 0;
+			for (int other : geometry.getAttackCells(cell)) attack |= 1L << other;
+			assertEquals(geometry.getAttackMask(cell), attack);
+
+			long summon = 0;
+			for (int other : geometry.getSummonCells(cell)) summon |= 1L << other;
+			assertEquals(geometry.getAttackMask(cell), summon);
+
+			long diamond = 0;
+			for (int other : geometry.getDiamondCells(cell)) diamond |= 1L << other;
+			assertEquals(geometry.getMoveMask(cell), diamond);
+		}
+	}
+
+}
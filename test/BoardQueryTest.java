@@ -0,0 +1,127 @@
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import commands.BasicCommands;
+import commands.RecordingTell;
+import structures.basic.Board;
+import structures.basic.Tile;
+import structures.basic.Unit;
+import utils.AppConstants;
+import utils.BasicObjectBuilders;
+import utils.StaticConfFiles;
+
+public class BoardQueryTest {
+
+	RecordingTell tell;
+	Board board;
+
+	@Before
+	public void setUp() {
+		tell = new RecordingTell();
+		BasicCommands.altTell = tell;
+		board = new Board();
+
+		placeUnit(40, 1, 1, 2);
+		placeUnit(1, 1, 3, 2);
+		placeUnit(41, 2, 3, 1);
+		placeUnit(21, 2, 4, 3);
+		placeUnit(22, 2, 2, 4);
+	}
+
+	void placeUnit(int id, int player, int x, int y) {
+		Unit unit = BasicObjectBuilders.loadUnit(StaticConfFiles.humanAvatar, id, Unit.class);
+		unit.setIsPlayer(player);
+		board.addUnitToBoard(x, y, unit);
+	}
+
+	// whether the unit on the tile could move to the other tile, worked out from the coordinates:
+	// up to two tiles away, not through an enemy unit, and the tile moved to is empty
+	boolean reachableByLoop(Tile tile, Tile other) {
+		int x = tile.getTilex();
+		int y = tile.getTiley();
+		int dx = other.getTilex()-x;
+		int dy = other.getTiley()-y;
+		int distance = Math.abs(dx)+Math.abs(dy);
+		if (distance<1 || distance>2 || other.getUnitFromTile()!=null) return false;
+		if (distance==1) return true;
+		if (dx==0 || dy==0) return !isEnemy(tile, board.returnTile(x+dx/2, y+dy/2));
+		return !isEnemy(tile, board.returnTile(x+dx, y)) || !isEnemy(tile, board.returnTile(x, y+dy));
+	}
+
+	boolean isEnemy(Tile tile, Tile other) {
+		return other.getUnitFromTile()!=null && other.getUnitFromTile().getIsPlayer()!=tile.getUnitFromTile().getIsPlayer();
+	}
+
+	boolean nextTo(Tile a, Tile b) {
+		return Math.max(Math.abs(a.getTilex()-b.getTilex()), Math.abs(a.getTiley()-b.getTiley()))==1;
+	}
+
+	// the tiles the unit on the tile can move to or attack, checking every tile of the board
+	ArrayList<Tile> moveAndAttackByLoop(Tile tile) {
+		ArrayList<Tile> list = new ArrayList<Tile>();
+		for (Tile other : board.allTiles()) {
+			if (reachableByLoop(tile, other)) {
+				list.add(other);
+			} else if (isEnemy(tile, other)) {
+				boolean attackable = nextTo(tile, other);
+				for (Tile from : board.allTiles()) {
+					if (reachableByLoop(tile, from) && nextTo(from, other)) attackable = true;
+				}
+				if (attackable) list.add(other);
+			}
+		}
+		return list;
+	}
+
+/** Test that a board created without an ActorRef, and every query on it, sends nothing to the front-end
+ *
+ */
+	@Test
+	public void queriesSendNothing() {
+		for (Tile tile : board.allTiles()) {
+			board.getAdjacentTiles(tile);
+			board.summonableTiles(tile);
+			board.retrieveAdjacentTilesToAttackPosition(tile);
+			if (tile.getUnitFromTile()!=null) board.getMoveAndAttackTiles(tile);
+			board.highlightTilesMoveAndAttack(0, null, null, tile.getUnitFromTile()!=null ? tile : board.returnTile(1, 2), null);
+		}
+		board.getTilesWithoutUnits();
+		assertEquals(0, tell.getTotal());
+
+		new Board(null);
+		assertEquals(AppConstants.boardWidth*AppConstants.boardHeight, tell.getCount("drawTile"));
+	}
+
+/** Test that the move and attack tiles match checking every tile of the board, for every unit
+ *
+ */
+	@Test
+	public void moveAndAttackMatchesLoop() {
+		for (Tile tile : board.allTiles()) {
+			if (tile.getUnitFromTile()==null) continue;
+			assertEquals(moveAndAttackByLoop(tile), board.getMoveAndAttackTiles(tile));
+		}
+	}
+
+/** Test that the renderer highlights the tiles with units red and the empty ones white
+ *
+ */
+	@Test
+	public void rendererHighlightsList() {
+		Tile tile = board.returnTile(3, 2);
+		ArrayList<Tile> tiles = board.highlightTilesMoveAndAttack(1, null, null, tile, null);
+
+		assertEquals(tiles, board.getMoveAndAttackTiles(tile));
+		for (Tile highlighted : tiles) {
+			int mode = highlighted.getUnitFromTile()!=null ? 2 : 1;
+			assertEquals(mode, board.getRenderer().getRenderedMode(highlighted.getTilex(), highlighted.getTiley()));
+		}
+		assertEquals(-1, board.getRenderedMode(8, 0)); // never drawn, the board was created without drawing it
+		assertEquals(board.getRenderer().getDrawTileSent(), tell.getCount("drawTile"));
+	}
+
+}
@@ -0,0 +1,114 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import commands.BasicCommands;
+import commands.DummyTell;
+import structures.basic.Board;
+import structures.basic.Player;
+import structures.basic.Tile;
+import structures.basic.Unit;
+import utils.BasicObjectBuilders;
+import utils.StaticConfFiles;
+
+/**
+ * Benchmark for the board queries as the board grows. For each size the same number of units
+ * (unitsPerPlayer for each player) is put on random tiles, and the average time of each query
+ * is printed, along with a full AI candidate pass (the move and attack tiles of every unit of
+ * one player plus their summon zone) and a unit move. With the same number of units the times
+ * should stay about the same as the board grows, apart from getTilesWithoutUnits which lists
+ * every empty tile.
+ *
+ * This is not a unit test, run the main method directly.
+ */
+public class BoardScalingBenchmark {
+
+	static final int[][] sizes = {{9, 5}, {16, 16}, {32, 32}, {48, 48}, {64, 64}};
+	static final int unitsPerPlayer = 20;
+	static final int warmupRounds = 2000;
+	static final int measuredRounds = 20000;
+
+	// a player that only has an id, the queries need nothing else
+	static Player playerWithID(int id) {
+		return new Player(20, 0) {
+			@Override
+			public int getID() {
+				return id;
+			}
+		};
+	}
+
+	interface Query {
+		int run(Board board, List<Tile> units, Player player, int round);
+	}
+
+	public static void main(String[] args) {
+		// discard any messages, nothing should be sent
+		BasicCommands.altTell = new DummyTell() {
+			@Override
+			public void tell(ObjectNode message) {}
+		};
+
+		Player player1 = playerWithID(1);
+		Player player2 = playerWithID(2);
+
+		System.out.println(unitsPerPlayer+" units per player, "+measuredRounds+" rounds, times in microseconds per call");
+		System.out.printf("%-8s %14s %14s %14s %14s %14s %14s%n", "size", "withUnits", "withoutUnits", "moveAndAttack", "summonZone", "aiCandidates", "moveUnit");
+
+		for (int[] size : sizes) {
+			Board board = new Board(size[0], size[1]);
+			Random random = new Random(1);
+			List<Tile> p1Tiles = new ArrayList<Tile>();
+			List<Tile> p2Tiles = new ArrayList<Tile>();
+			int units = Math.min(unitsPerPlayer*2, size[0]*size[1]/2);
+			for (int id = 0; id < units; id++) {
+				Tile tile;
+				do {
+					tile = board.returnTile(random.nextInt(size[0]), random.nextInt(size[1]));
+				} while (tile.getUnitFromTile()!=null);
+				Unit unit = BasicObjectBuilders.loadUnit(StaticConfFiles.humanAvatar, id, Unit.class);
+				unit.setIsPlayer(id%2+1);
+				board.addUnitToBoard(tile.getTilex(), tile.getTiley(), unit);
+				(id%2==0 ? p1Tiles : p2Tiles).add(tile);
+			}
+
+			double withUnits = time(board, p1Tiles, player1, (b, u, p, r) -> b.getTilesWithUnits(p).size());
+			double withoutUnits = time(board, p1Tiles, player1, (b, u, p, r) -> b.getTilesWithoutUnits().size());
+			double moveAndAttack = time(board, p1Tiles, player1, (b, u, p, r) -> b.getMoveAndAttackTiles(u.get(r%u.size())).size());
+			double summonZone = time(board, p1Tiles, player1, (b, u, p, r) -> b.getSummonZoneTiles(p).size());
+			double aiCandidates = time(board, p2Tiles, player2, (b, u, p, r) -> {
+				int found = 0;
+				for (Tile tile : b.getTilesWithUnits(p)) found += b.getMoveAndAttackTiles(tile).size();
+				return found + b.getSummonZoneTiles(p).size();
+			});
+			double moveUnit = time(board, p1Tiles, player1, (b, u, p, r) -> {
+				// move a unit to the next tile down and back
+				Tile from = u.get(r%u.size());
+				Tile to = b.returnTile(from.getTilex(), (from.getTiley()+1)%b.getHeight());
+				if (to.getUnitFromTile()!=null) return 0;
+				Unit unit = from.getUnitFromTile();
+				from.setUnitToTile(null);
+				to.setUnitToTile(unit);
+				to.setUnitToTile(null);
+				from.setUnitToTile(unit);
+				return 1;
+			});
+
+			System.out.printf("%-8s %14.3f %14.3f %14.3f %14.3f %14.3f %14.3f%n", size[0]+"x"+size[1],
+					withUnits, withoutUnits, moveAndAttack, summonZone, aiCandidates, moveUnit);
+		}
+
+		BasicCommands.altTell = null;
+	}
+
+	static int sink = 0; // keeps the results alive so the queries are not optimised away
+
+	static double time(Board board, List<Tile> units, Player player, Query query) {
+		for (int i = 0; i < warmupRounds; i++) sink += query.run(board, units, player, i);
+		long start = System.nanoTime();
+		for (int i = 0; i < measuredRounds; i++) sink += query.run(board, units, player, i);
+		return (System.nanoTime()-start)/1e3/measuredRounds;
+	}
+}
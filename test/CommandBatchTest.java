@@ -0,0 +1,110 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import commands.BasicCommands;
+import commands.CommandBatch;
+import commands.DummyTell;
+import structures.basic.Tile;
+import utils.AppConstants;
+import utils.BasicObjectBuilders;
+
+public class CommandBatchTest {
+
+	List<ObjectNode> sent;
+
+	@Before
+	public void setUp() {
+		sent = new ArrayList<ObjectNode>();
+
+		// record every message that would have gone to the front-end
+		BasicCommands.altTell = new DummyTell() {
+			@Override
+			public void tell(ObjectNode message) {
+				sent.add(message);
+			}
+		};
+		AppConstants.commandBatching = true;
+	}
+
+	@After
+	public void tearDown() {
+		AppConstants.commandBatching = false;
+	}
+
+/** Test that commands sent inside a batch go out as one message, each with its delay
+ *
+ */
+	@Test
+	public void commandsSentAsOneFrame() {
+		Tile tile = BasicObjectBuilders.loadTile(1, 1);
+
+		CommandBatch.begin(null);
+		BasicCommands.drawTile(null, tile, 1);
+		AppConstants.callSleep(100);
+		BasicCommands.drawTile(null, tile, 0);
+		AppConstants.callSleep(50);
+		BasicCommands.deleteCard(null, 2);
+
+		// nothing is sent until the batch is closed
+		assertEquals(0, sent.size());
+		CommandBatch.end();
+
+		assertEquals(1, sent.size());
+		ObjectNode frame = sent.get(0);
+		assertEquals("commandBatch", frame.get("messagetype").asText());
+		assertEquals(150, frame.get("duration").asLong());
+
+		JsonNode commands = frame.get("commands");
+		assertEquals(3, commands.size());
+		assertEquals(0, commands.get(0).get("delay").asLong());
+		assertEquals(100, commands.get(1).get("delay").asLong());
+		assertEquals(150, commands.get(2).get("delay").asLong());
+		assertEquals("drawTile", commands.get(0).get("command").get("messagetype").asText());
+		assertEquals("deleteCard", commands.get(2).get("command").get("messagetype").asText());
+	}
+
+/** Test that a nested batch is only sent when the outermost batch is closed
+ *
+ */
+	@Test
+	public void nestedBatchesSentOnce() {
+		CommandBatch.begin(null);
+		BasicCommands.deleteCard(null, 1);
+		CommandBatch.begin(null);
+		BasicCommands.deleteCard(null, 2);
+		CommandBatch.end();
+		assertEquals(0, sent.size());
+		CommandBatch.end();
+
+		assertEquals(1, sent.size());
+		assertEquals(2, sent.get(0).get("commands").size());
+		assertFalse(CommandBatch.isOpen());
+	}
+
+/** Test that commands are sent one at a time when batching is switched off
+ *
+ */
+	@Test
+	public void batchingDisabled() {
+		AppConstants.commandBatching = false;
+
+		CommandBatch.begin(null);
+		BasicCommands.deleteCard(null, 1);
+		BasicCommands.deleteCard(null, 2);
+		CommandBatch.end();
+
+		assertEquals(2, sent.size());
+		assertEquals("deleteCard", sent.get(0).get("messagetype").asText());
+	}
+
+}
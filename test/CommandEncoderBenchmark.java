@@ -0,0 +1,155 @@
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import commands.BasicCommands;
+import commands.CommandEncoder;
+import commands.DummyTell;
+import play.libs.Json;
+import structures.basic.ImageCorrection;
+import structures.basic.Tile;
+import structures.basic.Unit;
+import structures.basic.UnitAnimation;
+import structures.basic.UnitAnimationSet;
+import structures.basic.UnitAnimationType;
+import utils.AppConstants;
+
+/**
+ * Benchmark for the command encoder. Measures messages/sec for a full-board redraw
+ * (a drawTile and a drawUnit for every tile) using the old two pass encoding
+ * (writeValueAsString then readTree), the single pass CommandEncoder.toJson and
+ * BasicCommands itself, which reuses the cached tile and unit fragments.
+ *
+ * This is not a unit test, run the main method directly.
+ */
+public class CommandEncoderBenchmark {
+
+	static final int warmupRounds = 2000;
+	static final int measuredRounds = 20000;
+
+	static ObjectMapper legacyMapper = new ObjectMapper();
+
+	public static void main(String[] args) throws Exception {
+		List<Tile> tiles = new ArrayList<Tile>();
+		for (int x = 0; x < AppConstants.boardWidth; x++) {
+			for (int y = 0; y < AppConstants.boardHeight; y++) {
+				Tile tile = new Tile("assets/game/extra/board/tile_grid.png", (115*x)+(5*x)+410, (115*y)+(5*y)+280, 115, 115, x, y);
+				Unit unit = createUnit(x*AppConstants.boardHeight+y);
+				unit.setPositionByTile(tile);
+				tile.setUnitToTile(unit);
+				tiles.add(tile);
+			}
+		}
+
+		// discard the messages, we only want the cost of building them
+		BasicCommands.altTell = new DummyTell() {
+			@Override
+			public void tell(ObjectNode message) {}
+		};
+
+		int messagesPerRound = tiles.size()*2;
+
+		runLegacy(tiles, warmupRounds);
+		long start = System.nanoTime();
+		runLegacy(tiles, measuredRounds);
+		double legacySeconds = (System.nanoTime()-start)/1e9;
+
+		runSinglePass(tiles, warmupRounds);
+		start = System.nanoTime();
+		runSinglePass(tiles, measuredRounds);
+		double singlePassSeconds = (System.nanoTime()-start)/1e9;
+
+		runEncoder(tiles, warmupRounds);
+		start = System.nanoTime();
+		runEncoder(tiles, measuredRounds);
+		double encoderSeconds = (System.nanoTime()-start)/1e9;
+
+		double legacyRate = (messagesPerRound*(double)measuredRounds)/legacySeconds;
+		double singlePassRate = (messagesPerRound*(double)measuredRounds)/singlePassSeconds;
+		double encoderRate = (messagesPerRound*(double)measuredRounds)/encoderSeconds;
+
+		System.out.println("Full-board redraw, "+messagesPerRound+" messages per round, "+measuredRounds+" rounds");
+		System.out.printf("  writeValueAsString + readTree : %,.0f messages/sec%n", legacyRate);
+		System.out.printf("  CommandEncoder.toJson         : %,.0f messages/sec%n", singlePassRate);
+		System.out.printf("  cached fragments              : %,.0f messages/sec%n", encoderRate);
+		System.out.printf("  speed up                      : %.2fx%n", encoderRate/legacyRate);
+
+		BasicCommands.altTell = null;
+	}
+
+	/**
+	 * The encoding BasicCommands used before CommandEncoder
+	 */
+	@SuppressWarnings({"deprecation"})
+	static void runLegacy(List<Tile> tiles, int rounds) throws Exception {
+		for (int r = 0; r < rounds; r++) {
+			for (Tile tile : tiles) {
+				ObjectNode drawTile = Json.newObject();
+				drawTile.put("messagetype", "drawTile");
+				drawTile.put("tile", legacyMapper.readTree(legacyMapper.writeValueAsString(tile)));
+				drawTile.put("mode", 0);
+				BasicCommands.altTell.tell(drawTile);
+
+				ObjectNode drawUnit = Json.newObject();
+				drawUnit.put("messagetype", "drawUnit");
+				drawUnit.put("tile", legacyMapper.readTree(legacyMapper.writeValueAsString(tile)));
+				drawUnit.put("unit", legacyMapper.readTree(legacyMapper.writeValueAsString(tile.getUnitFromTile())));
+				BasicCommands.altTell.tell(drawUnit);
+			}
+		}
+	}
+
+	/**
+	 * Single pass encoding without the fragment cache
+	 */
+	static void runSinglePass(List<Tile> tiles, int rounds) {
+		for (int r = 0; r < rounds; r++) {
+			for (Tile tile : tiles) {
+				ObjectNode drawTile = Json.newObject();
+				drawTile.put("messagetype", "drawTile");
+				drawTile.set("tile", CommandEncoder.toJson(tile));
+				drawTile.put("mode", 0);
+				BasicCommands.altTell.tell(drawTile);
+
+				ObjectNode drawUnit = Json.newObject();
+				drawUnit.put("messagetype", "drawUnit");
+				drawUnit.set("tile", CommandEncoder.toJson(tile));
+				drawUnit.set("unit", CommandEncoder.toJson(tile.getUnitFromTile()));
+				BasicCommands.altTell.tell(drawUnit);
+			}
+		}
+	}
+
+	static void runEncoder(List<Tile> tiles, int rounds) {
+		for (int r = 0; r < rounds; r++) {
+			for (Tile tile : tiles) {
+				BasicCommands.drawTile(null, tile, 0);
+				BasicCommands.drawUnit(null, tile.getUnitFromTile(), tile);
+			}
+		}
+	}
+
+	/**
+	 * Builds a unit with an animation set about the size of the ones in conf/gameconfs/units
+	 */
+	static Unit createUnit(int id) {
+		List<String> frames = new ArrayList<String>();
+		for (int i = 0; i < 60; i++) frames.add("assets/game/extra/ui/units/unit_"+id+"/frame_"+i+".png");
+		UnitAnimationSet animations = new UnitAnimationSet(frames,
+				new UnitAnimation(new int[] {0,10}, 12, true),
+				new UnitAnimation(new int[] {11,20}, 12, false),
+				new UnitAnimation(new int[] {21,30}, 12, false),
+				new UnitAnimation(new int[] {31,40}, 12, true),
+				new UnitAnimation(new int[] {41,50}, 12, true),
+				new UnitAnimation(new int[] {51,59}, 12, false));
+		ImageCorrection correction = new ImageCorrection(100, 100, 0, 0, 0, 0, 1, false);
+		Unit unit = new Unit(id, animations, correction);
+		unit.setAnimation(UnitAnimationType.idle);
+		unit.setName("Unit "+id);
+		unit.setHealth(5);
+		unit.setAttack(3);
+		return unit;
+	}
+}
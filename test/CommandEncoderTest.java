@@ -0,0 +1,131 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import commands.BasicCommands;
+import commands.CommandEncoder;
+import commands.DummyTell;
+import structures.basic.Card;
+import structures.basic.Tile;
+import structures.basic.Unit;
+import utils.BasicObjectBuilders;
+import utils.StaticConfFiles;
+
+public class CommandEncoderTest {
+
+	ObjectMapper beanMapper; // plain Jackson mapper, gives the output the old two pass encoding produced
+	ObjectNode lastMessage;
+
+	@Before
+	public void setUp() {
+		beanMapper = new ObjectMapper();
+		lastMessage = null;
+
+		// keep hold of the last message sent so it can be checked
+		BasicCommands.altTell = new DummyTell() {
+			@Override
+			public void tell(ObjectNode message) {
+				lastMessage = message;
+			}
+		};
+	}
+
+/** Test that a tile is encoded with the same fields as the default bean serialization,
+ * without the unit standing on it
+ */
+	@Test
+	public void tileEncodingMatchesBeanSerialization() throws Exception {
+		Tile tile = BasicObjectBuilders.loadTile(3, 2);
+		Unit unit = BasicObjectBuilders.loadUnit(StaticConfFiles.humanAvatar, 40, Unit.class);
+		tile.setUnitToTile(unit);
+
+		ObjectNode expected = beanMapper.valueToTree(tile);
+		expected.remove("unitFromTile");
+
+		JsonNode encoded = CommandEncoder.toJson(tile);
+		assertEquals(expected, encoded);
+		assertFalse("** The tile should not carry the unit on it **", encoded.has("unitFromTile"));
+	}
+
+/** Test that a unit is encoded exactly as the default bean serialization
+ *
+ */
+	@Test
+	public void unitEncodingMatchesBeanSerialization() throws Exception {
+		Unit unit = BasicObjectBuilders.loadUnit(StaticConfFiles.humanAvatar, 40, Unit.class);
+		unit.setPositionByTile(BasicObjectBuilders.loadTile(1, 2));
+		unit.setHealth(20);
+		unit.setAttack(2);
+
+		assertEquals(beanMapper.valueToTree(unit), CommandEncoder.toJson(unit));
+	}
+
+/** Test that a card is encoded exactly as the default bean serialization
+ *
+ */
+	@Test
+	public void cardEncodingMatchesBeanSerialization() throws Exception {
+		Card card = BasicObjectBuilders.loadCard(StaticConfFiles.c_truestrike, 0, Card.class);
+
+		assertEquals(beanMapper.valueToTree(card), CommandEncoder.toJson(card));
+	}
+
+/** Test that drawTile sends a single message holding the encoded tile and mode
+ *
+ */
+	@Test
+	public void drawTileMessage() throws Exception {
+		Tile tile = BasicObjectBuilders.loadTile(4, 1);
+		BasicCommands.drawTile(null, tile, 1);
+
+		assertNotNull(lastMessage);
+		assertEquals("drawTile", lastMessage.get("messagetype").asText());
+		assertEquals(1, lastMessage.get("mode").asInt());
+		assertEquals(4, lastMessage.get("tile").get("tilex").asInt());
+		assertEquals(1, lastMessage.get("tile").get("tiley").asInt());
+		assertTrue(CommandEncoder.toBytes(lastMessage).length > 0);
+	}
+
+/** Test that tiles and cards are only encoded once and the same JSON is reused
+ *
+ */
+	@Test
+	public void tileAndCardFragmentsAreCached() {
+		Tile tile = BasicObjectBuilders.loadTile(2, 3);
+		assertSame(CommandEncoder.encode(tile), CommandEncoder.encode(tile));
+
+		Card card = BasicObjectBuilders.loadCard(StaticConfFiles.c_truestrike, 0, Card.class);
+		assertSame(CommandEncoder.encode(card), CommandEncoder.encode(card));
+	}
+
+/** Test that a unit is only encoded again after one of its setters has marked it dirty
+ *
+ */
+	@Test
+	public void unitReencodedOnlyWhenDirty() {
+		Unit unit = BasicObjectBuilders.loadUnit(StaticConfFiles.humanAvatar, 40, Unit.class);
+		unit.setHealth(20);
+
+		JsonNode first = CommandEncoder.encode(unit);
+		assertSame(first, CommandEncoder.encode(unit));
+
+		unit.setHealth(15);
+		JsonNode afterHealth = CommandEncoder.encode(unit);
+		assertNotSame(first, afterHealth);
+		assertEquals(15, afterHealth.get("health").asInt());
+
+		unit.setPositionByTile(BasicObjectBuilders.loadTile(5, 1));
+		assertEquals(5, CommandEncoder.encode(unit).get("position").get("tilex").asInt());
+	}
+
+}
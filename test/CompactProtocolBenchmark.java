@@ -0,0 +1,86 @@
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import commands.BasicCommands;
+import commands.CommandEncoder;
+import commands.CompactProtocol;
+import commands.DummyTell;
+import structures.basic.Tile;
+import structures.basic.Unit;
+import structures.basic.UnitAnimationType;
+import utils.AppConstants;
+
+/**
+ * Compares the number of bytes sent to the front-end with the full and compact protocols.
+ * Records the messages of a typical stretch of game (drawing the board, summoning units,
+ * highlighting, moving and attacking) and prints the size of each message type both ways.
+ *
+ * This is not a unit test, run the main method directly.
+ */
+public class CompactProtocolBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		List<ObjectNode> sent = new ArrayList<ObjectNode>();
+		BasicCommands.altTell = new DummyTell() {
+			@Override
+			public void tell(ObjectNode message) {
+				sent.add(message);
+			}
+		};
+
+		Tile[][] tiles = new Tile[AppConstants.boardWidth][AppConstants.boardHeight];
+		for (int x = 0; x < AppConstants.boardWidth; x++) {
+			for (int y = 0; y < AppConstants.boardHeight; y++) {
+				tiles[x][y] = new Tile("assets/game/extra/board/tile_grid.png", (115*x)+(5*x)+410, (115*y)+(5*y)+280, 115, 115, x, y);
+				BasicCommands.drawTile(null, tiles[x][y], 0);
+			}
+		}
+
+		// summon a unit on every other tile of the middle row, then highlight, move and attack with each
+		for (int x = 0; x < AppConstants.boardWidth; x += 2) {
+			Unit unit = CommandEncoderBenchmark.createUnit(x);
+			unit.setPositionByTile(tiles[x][2]);
+			BasicCommands.drawUnit(null, unit, tiles[x][2]);
+			BasicCommands.setUnitHealth(null, unit, unit.getHealth());
+			BasicCommands.setUnitAttack(null, unit, unit.getAttack());
+
+			for (int y = 0; y < AppConstants.boardHeight; y++) BasicCommands.drawTile(null, tiles[x][y], 1);
+			for (int y = 0; y < AppConstants.boardHeight; y++) BasicCommands.drawTile(null, tiles[x][y], 0);
+
+			BasicCommands.moveUnitToTile(null, unit, tiles[x][1]);
+			unit.setPositionByTile(tiles[x][1]);
+			BasicCommands.playUnitAnimation(null, unit, UnitAnimationType.attack);
+			BasicCommands.setUnitHealth(null, unit, unit.getHealth()-1);
+			BasicCommands.playUnitAnimation(null, unit, UnitAnimationType.idle);
+		}
+
+		Map<String,long[]> bytesByType = new LinkedHashMap<String,long[]>(); // type -> {count, full bytes, compact bytes}
+		long fullTotal = 0;
+		long compactTotal = 0;
+		for (ObjectNode message : sent) {
+			long full = CommandEncoder.toBytes(message).length;
+			long compact = CommandEncoder.toBytes(CompactProtocol.compact(message)).length;
+
+			long[] totals = bytesByType.computeIfAbsent(message.get("messagetype").asText(), type -> new long[3]);
+			totals[0]++;
+			totals[1] += full;
+			totals[2] += compact;
+			fullTotal += full;
+			compactTotal += compact;
+		}
+
+		System.out.println(sent.size()+" messages");
+		System.out.printf("  %-20s %6s %14s %14s%n", "message", "count", "avg full", "avg compact");
+		for (Map.Entry<String,long[]> entry : bytesByType.entrySet()) {
+			long[] totals = entry.getValue();
+			System.out.printf("  %-20s %6d %14d %14d%n", entry.getKey(), totals[0], totals[1]/totals[0], totals[2]/totals[0]);
+		}
+		System.out.printf("  %-20s %6d %14d %14d  (%.1f%% of full)%n", "total", sent.size(), fullTotal, compactTotal, 100.0*compactTotal/fullTotal);
+
+		BasicCommands.altTell = null;
+	}
+}
@@ -0,0 +1,114 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import commands.BasicCommands;
+import commands.CompactProtocol;
+import commands.DummyTell;
+import play.libs.Json;
+import structures.basic.Tile;
+import structures.basic.Unit;
+import utils.BasicObjectBuilders;
+import utils.StaticConfFiles;
+
+public class CompactProtocolTest {
+
+	List<ObjectNode> sent;
+	Tile tile;
+	Unit unit;
+
+	@Before
+	public void setUp() {
+		sent = new ArrayList<ObjectNode>();
+		BasicCommands.altTell = new DummyTell() {
+			@Override
+			public void tell(ObjectNode message) {
+				sent.add(message);
+			}
+		};
+
+		tile = BasicObjectBuilders.loadTile(4, 3);
+		unit = BasicObjectBuilders.loadUnit(StaticConfFiles.humanAvatar, 40, Unit.class);
+		unit.setPositionByTile(tile);
+	}
+
+/** Test that a tile is sent as its grid position and the message type as a short code
+ *
+ */
+	@Test
+	public void drawTileCompacted() {
+		BasicCommands.drawTile(null, tile, 2);
+		ObjectNode compact = CompactProtocol.compact(sent.get(0));
+
+		assertEquals("dt", compact.get("m").asText());
+		assertEquals(4, compact.get("t").get(0).asInt());
+		assertEquals(3, compact.get("t").get(1).asInt());
+		assertEquals(2, compact.get("mode").asInt());
+		assertFalse(compact.has("messagetype"));
+		assertFalse(compact.has("tile"));
+	}
+
+/** Test that units are sent by id, except by drawUnit which introduces them
+ *
+ */
+	@Test
+	public void unitsSentById() {
+		BasicCommands.moveUnitToTile(null, unit, tile);
+		ObjectNode move = CompactProtocol.compact(sent.get(0));
+		assertEquals("mu", move.get("m").asText());
+		assertEquals(40, move.get("u").asInt());
+
+		BasicCommands.drawUnit(null, unit, tile);
+		ObjectNode draw = CompactProtocol.compact(sent.get(1));
+		assertEquals("du", draw.get("m").asText());
+		assertTrue(draw.get("u").has("animations"));
+	}
+
+/** Test that the commands inside a batch are compacted too, and the original message is unchanged
+ *
+ */
+	@Test
+	public void batchCompacted() {
+		BasicCommands.drawTile(null, tile, 1);
+		ObjectNode drawTile = sent.get(0);
+
+		ObjectNode batch = Json.newObject();
+		batch.put("messagetype", "commandBatch");
+		batch.put("duration", 100);
+		ObjectNode entry = batch.putArray("commands").addObject();
+		entry.put("delay", 100);
+		entry.set("command", drawTile);
+
+		ObjectNode compact = CompactProtocol.compact(batch);
+		assertEquals("cb", compact.get("m").asText());
+		JsonNode compactEntry = compact.get("c").get(0);
+		assertEquals(100, compactEntry.get("d").asLong());
+		assertEquals("dt", compactEntry.get("c").get("m").asText());
+
+		// the original still has the full tile
+		assertTrue(drawTile.get("tile").has("tileTextures"));
+	}
+
+/** Test that messages the protocol does not know are left as they are, and that it is off by default
+ *
+ */
+	@Test
+	public void unknownMessagesUnchanged() {
+		ObjectNode error = Json.newObject();
+		error.put("messagetype", "ERR");
+		assertSame(error, CompactProtocol.compact(error));
+
+		assertFalse(CompactProtocol.isEnabled(null));
+	}
+
+}
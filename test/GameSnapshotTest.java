@@ -0,0 +1,109 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import structures.GameSnapshot;
+import structures.GameState;
+import structures.basic.Board;
+import structures.basic.Tile;
+import structures.basic.Unit;
+import utils.HeadlessGame;
+
+public class GameSnapshotTest {
+
+	HeadlessGame game;
+	GameState gameState;
+
+	@Before
+	public void setUp() {
+		game = new HeadlessGame();
+		gameState = game.initalize();
+	}
+
+	@After
+	public void tearDown() {
+		game.close();
+	}
+
+/** Test that a snapshot of a new game holds the two avatars, the players and their hands and decks
+ *
+ */
+	@Test
+	public void snapshotMatchesGame() {
+		GameSnapshot snapshot = GameSnapshot.of(gameState);
+		Board board = gameState.board;
+
+		assertEquals(2, snapshot.getUnitCount());
+		for (int unit = 0; unit < snapshot.getUnitCount(); unit++) {
+			Tile tile = board.tileAt(snapshot.getUnitCell(unit));
+			Unit live = tile.getUnitFromTile();
+			assertEquals(live.getId(), snapshot.getUnitId(unit));
+			assertEquals(live.getIsPlayer(), snapshot.getUnitOwner(unit));
+			assertEquals(live.getHealth(), snapshot.getUnitHealth(unit));
+			assertEquals(live.getAttack(), snapshot.getUnitAttack(unit));
+			assertEquals(unit, snapshot.unitAt(snapshot.getUnitCell(unit)));
+		}
+		assertEquals(-1, snapshot.unitAt(board.cellIndex(4, 2)));
+
+		assertEquals(gameState.player1.getHealth(), snapshot.getPlayerHealth(1));
+		assertEquals(gameState.player2.getMana(), snapshot.getPlayerMana(2));
+		assertEquals(gameState.player1.hand.size(), snapshot.getHandCards(1).length);
+		assertEquals(gameState.player1.hand.get(0).getManacost(), snapshot.getHandCosts(1)[0]);
+		assertEquals(gameState.player2.deck.size(), snapshot.getDeckCards(2).length);
+		assertEquals(1, snapshot.getTurnPlayer());
+	}
+
+/** Test that a snapshot does not change when the game does, or when the arrays it returns are changed
+ *
+ */
+	@Test
+	public void snapshotDoesNotChange() {
+		GameSnapshot snapshot = GameSnapshot.of(gameState);
+		assertEquals(snapshot, GameSnapshot.of(gameState));
+		assertEquals(snapshot.hashCode(), GameSnapshot.of(gameState).hashCode());
+
+		int[] hand = snapshot.getHandCards(1);
+		hand[0] = -5;
+		snapshot.getUnitHealths()[0] = -5;
+		assertTrue(snapshot.getHandCards(1)[0] != -5);
+		assertTrue(snapshot.getUnitHealth(0) != -5);
+
+		Unit avatar = gameState.board.returnTile(1, 2).getUnitFromTile();
+		int cell = gameState.board.cellIndex(1, 2);
+		avatar.setHealth(avatar.getHealth() - 3);
+		gameState.player1.hand.remove(0);
+
+		assertEquals(avatar.getHealth() + 3, snapshot.getUnitHealth(snapshot.unitAt(cell)));
+		assertEquals(gameState.player1.hand.size() + 1, snapshot.getHandCards(1).length);
+		assertNotEquals(snapshot, GameSnapshot.of(gameState));
+	}
+
+/** Test that two games played the same way give equal snapshots, with the units in cell order
+ *
+ */
+	@Test
+	public void sameGameGivesEqualSnapshot() {
+		game.endTurn();
+		GameSnapshot first = GameSnapshot.of(gameState);
+		game.close();
+
+		game = new HeadlessGame();
+		gameState = game.initalize();
+		game.endTurn();
+		GameSnapshot second = GameSnapshot.of(gameState);
+
+		assertEquals(first, second);
+		int[] cells = second.getUnitCells();
+		int[] sorted = cells.clone();
+		Arrays.sort(sorted);
+		assertArrayEquals(sorted, cells);
+	}
+
+}
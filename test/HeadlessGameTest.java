@@ -0,0 +1,165 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import commands.BasicCommands;
+import commands.RecordingTell;
+import structures.basic.Board;
+import structures.basic.Unit;
+import utils.AppConstants;
+import utils.HeadlessGame;
+
+public class HeadlessGameTest {
+
+	RecordingTell tell;
+	HeadlessGame game;
+
+	@Before
+	public void setUp() {
+		BasicCommands.altTell = null;
+		tell = new RecordingTell();
+		game = new HeadlessGame(tell);
+	}
+
+	@After
+	public void tearDown() {
+		game.close();
+	}
+
+	/**
+	 * A simple human player: selects the avatar, attacks a highlighted enemy if there is one,
+	 * otherwise moves to the highlighted tile closest to the AI avatar
+	 */
+	static void walkToAIAvatar(HeadlessGame game) {
+		Board board = game.getGameState().board;
+		int[] avatar = null;
+		int[] target = null;
+		for (int x = 0; x < AppConstants.boardWidth; x++) {
+			for (int y = 0; y < AppConstants.boardHeight; y++) {
+				Unit unit = board.returnTile(x, y).getUnitFromTile();
+				if (unit!=null && unit.getId()==40) avatar = new int[] {x, y};
+				if (unit!=null && unit.getId()==41) target = new int[] {x, y};
+			}
+		}
+		if (avatar==null || target==null) return;
+
+		game.clickTile(avatar[0], avatar[1]);
+
+		int[] best = null;
+		int bestDistance = Integer.MAX_VALUE;
+		for (int x = 0; x < AppConstants.boardWidth; x++) {
+			for (int y = 0; y < AppConstants.boardHeight; y++) {
+				int mode = board.getRenderedMode(x, y);
+				if (mode==2) {
+					bestDistance = -1; // attacking beats moving
+					best = new int[] {x, y};
+				} else if (mode==1 && bestDistance>=0) {
+					int distance = Math.abs(x-target[0])+Math.abs(y-target[1]);
+					if (distance<bestDistance) {
+						bestDistance = distance;
+						best = new int[] {x, y};
+					}
+				}
+			}
+		}
+		if (best==null) best = avatar; // nothing to do, clicking the avatar again deselects it
+		game.clickTile(best[0], best[1]);
+	}
+
+/** Test that a whole game, from initalize to game over, runs without waiting on any of the sleeps
+ *
+ */
+	@Test
+	public void fullGameRunsToGameOver() {
+		long start = System.currentTimeMillis();
+
+		game.initalize();
+		int turns = game.playUntilGameOver(200, HeadlessGameTest::walkToAIAvatar);
+
+		assertTrue(game.getGameState().isGameOver);
+		assertTrue(turns>0);
+		assertTrue(game.getGameState().player1.getAvatar().getHealth()<=0 || game.getGameState().player2.getAvatar().getHealth()<=0);
+
+		// the sleeps of a single attack add up to several seconds
+		assertTrue(System.currentTimeMillis()-start < 5000);
+	}
+
+/** Test that the commands sent during initalize are recorded instead of being sent anywhere
+ *
+ */
+	@Test
+	public void commandsRecorded() {
+		game.initalize();
+
+		assertEquals(AppConstants.boardWidth*AppConstants.boardHeight, tell.getCount("drawTile"));
+		assertEquals(2, tell.getCount("drawUnit"));
+		assertEquals(tell.getTotal(), tell.getMessages().size());
+		assertTrue(game.getGameState().isGameActive);
+	}
+
+/** Test that callSleep returns straight away in headless mode, only on the game's thread, and that closing the game detaches it
+ *
+ */
+	@Test
+	public void sleepsSkippedUntilClosed() throws InterruptedException {
+		long start = System.currentTimeMillis();
+		AppConstants.callSleep(5000);
+		assertTrue(System.currentTimeMillis()-start < 1000);
+
+		// a thread with no headless game on it, such as a live game's, still sleeps
+		long[] slept = new long[1];
+		Thread other = new Thread(() -> {
+			long otherStart = System.currentTimeMillis();
+			AppConstants.callSleep(200);
+			slept[0] = System.currentTimeMillis()-otherStart;
+		});
+		other.start();
+		other.join();
+		assertTrue(slept[0] >= 150);
+
+		assertTrue(game.getGameState().headless);
+		game.close();
+		assertNull(HeadlessGame.current());
+		assertNull(BasicCommands.altTell);
+	}
+
+/** Test that two headless games can be played at the same time, each sending its commands to its own tell
+ *
+ */
+	@Test
+	public void twoGamesAtOnce() throws InterruptedException {
+		game.close();
+		RecordingTell[] tells = new RecordingTell[2];
+		boolean[] over = new boolean[2];
+		Throwable[] failed = new Throwable[2];
+		Thread[] threads = new Thread[2];
+		for (int i = 0; i < 2; i++) {
+			int n = i;
+			tells[n] = new RecordingTell(false);
+			threads[n] = new Thread(() -> {
+				try (HeadlessGame other = new HeadlessGame(tells[n])) {
+					other.initalize();
+					other.playUntilGameOver(200, HeadlessGameTest::walkToAIAvatar);
+					over[n] = other.getGameState().isGameOver;
+				} catch (Throwable t) {
+					failed[n] = t;
+				}
+			});
+		}
+		for (Thread thread : threads) thread.start();
+		for (Thread thread : threads) thread.join(30000);
+
+		for (int i = 0; i < 2; i++) {
+			assertNull(failed[i]);
+			assertTrue(over[i]);
+			assertTrue(tells[i].getCount("drawTile") >= AppConstants.boardWidth*AppConstants.boardHeight);
+		}
+		assertEquals(0, tell.getTotal()); // nothing reached this test's own game
+	}
+
+}
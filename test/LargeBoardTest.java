@@ -0,0 +1,109 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import commands.BasicCommands;
+import commands.RecordingTell;
+import structures.basic.Board;
+import structures.basic.Tile;
+import structures.basic.Unit;
+import utils.BasicObjectBuilders;
+import utils.StaticConfFiles;
+
+public class LargeBoardTest {
+
+	RecordingTell tell;
+	Board board;
+
+	@Before
+	public void setUp() {
+		tell = new RecordingTell();
+		BasicCommands.altTell = tell;
+		board = new Board(64, 64);
+	}
+
+	Unit placeUnit(int id, int player, int x, int y) {
+		Unit unit = BasicObjectBuilders.loadUnit(StaticConfFiles.humanAvatar, id, Unit.class);
+		unit.setIsPlayer(player);
+		board.addUnitToBoard(x, y, unit);
+		return unit;
+	}
+
+/** Test that a 64x64 board is created with its tiles, without drawing anything
+ *
+ */
+	@Test
+	public void largeBoardCreated() {
+		assertEquals(64, board.getWidth());
+		assertEquals(64, board.getHeight());
+		assertEquals(64*64, board.allTiles().size());
+		assertEquals(64*64, board.getTilesWithoutUnits().size());
+		assertEquals(63, board.returnTile(63, 63).getTilex());
+		assertEquals(0, tell.getTotal());
+		assertEquals(64, board.getOccupiedWords().length);
+	}
+
+/** Test that the queries work for units in cells past the first 64, and at the far edge of the board
+ *
+ */
+	@Test
+	public void queriesPastFirstWord() {
+		Unit unit = placeUnit(1, 1, 40, 40);
+		placeUnit(2, 2, 41, 41);
+		placeUnit(3, 2, 63, 63);
+		placeUnit(4, 1, 62, 62);
+
+		Tile tile = board.returnTile(40, 40);
+		assertSame(tile, board.getTileOfUnit(1));
+		assertEquals(Arrays.asList(board.returnTile(41, 41)), board.getAdjacentTilesToAttack(tile, board.returnTile(40, 41)));
+		assertEquals(Arrays.asList(board.returnTile(62, 62)), board.getAdjacentTilesToAttack(board.returnTile(63, 63), board.returnTile(63, 62)));
+
+		// twelve moves and the enemy on (41,41) from the edge tiles next to it
+		ArrayList<Tile> moves = board.getMoveAndAttackTiles(tile);
+		assertTrue(moves.contains(board.returnTile(42, 40)));
+		assertTrue(moves.contains(board.returnTile(41, 41)));
+		assertFalse(moves.contains(board.returnTile(43, 40)));
+
+		assertTrue(board.isOccupied(board.cellIndex(63, 63)));
+		assertTrue(board.isUnitOf(2, board.cellIndex(63, 63)));
+		assertEquals(2, board.getTilesWithUnits(new structures.basic.Player(0, 0) {
+			@Override
+			public int getID() { return 1; }
+		}).size());
+
+		// moved to the other corner
+		tile.setUnitToTile(null);
+		board.addUnitToBoard(0, 0, unit);
+		assertSame(board.returnTile(0, 0), board.getTileOfUnit(1));
+		assertFalse(board.isOccupied(board.cellIndex(40, 40)));
+	}
+
+/** Test that the summon zones work past the first 64 cells and that the single long versions refuse a large board
+ *
+ */
+	@Test
+	public void summonZoneOnLargeBoard() {
+		placeUnit(1, 1, 30, 30);
+		placeUnit(2, 1, 31, 30);
+
+		long[] zone = board.getSummonZoneWords(1);
+		int cells = 0;
+		for (long word : zone) cells += Long.bitCount(word);
+		assertEquals(12, cells); // a 4x3 block around the two units, which are in the zone of each other
+
+		try {
+			board.getOccupied();
+			assertTrue("a 64x64 board should not fit in one long", false);
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+}
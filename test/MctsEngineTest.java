@@ -0,0 +1,132 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import ai.Action;
+import ai.MctsEngine;
+import ai.SearchState;
+import structures.GameSnapshot;
+import structures.GameState;
+import structures.basic.Board;
+import structures.basic.Card;
+import structures.basic.Unit;
+import utils.HeadlessGame;
+
+public class MctsEngineTest {
+
+/** Test that every action of a planned turn is legal when it is played, and that playing actions keeps the hash up to date
+ *
+ */
+	@Test
+	public void planHasOnlyLegalActions() {
+		try (HeadlessGame game = new HeadlessGame()) {
+			GameState gameState = game.initalize();
+			HeadlessGameTest.walkToAIAvatar(game);
+			game.endTurn(); // a few units on the board and some mana for player 1
+			HeadlessGameTest.walkToAIAvatar(game);
+			GameSnapshot snapshot = GameSnapshot.of(gameState);
+
+			SearchState state = new SearchState(snapshot);
+			assertEquals(snapshot.getZobristHash(), state.getHash());
+			SearchState start = state.copy();
+
+			List<Action> plan = new MctsEngine(500, 0, 7).planTurn(snapshot);
+			List<Action> legal = new ArrayList<>();
+			for (Action action : plan) {
+				assertTrue(action.getType() != Action.END_TURN);
+				legal.clear();
+				state.legalActions(legal);
+				assertTrue(action + " is not legal", legal.contains(action));
+				state.apply(action);
+				assertEquals(state.computeHash(), state.getHash());
+			}
+			state.apply(Action.endTurn);
+			assertEquals(2, state.getTurnPlayer());
+			assertEquals(state.computeHash(), state.getHash());
+			assertEquals(start.computeHash(), start.getHash()); // the copy is not changed
+			assertEquals(snapshot.getZobristHash(), start.getHash());
+		}
+	}
+
+/** Test that the AI can play a whole game with its turns planned by MCTS
+ *
+ */
+	@Test
+	public void mctsPlaysWholeGame() {
+		try (HeadlessGame game = new HeadlessGame()) {
+			GameState gameState = game.initalize();
+			gameState.player2.setPlanner(new MctsEngine(300, 0, 1));
+			int turns = game.playUntilGameOver(200, HeadlessGameTest::walkToAIAvatar);
+
+			assertTrue(gameState.isGameOver);
+			assertTrue(turns > 0);
+		}
+	}
+
+/** Test that the iteration budget is kept to, the playouts are counted and the same seed gives the same plan
+ *
+ */
+	@Test
+	public void iterationBudgetAndPlayouts() {
+		try (HeadlessGame game = new HeadlessGame()) {
+			GameSnapshot snapshot = GameSnapshot.of(game.initalize());
+
+			MctsEngine engine = new MctsEngine(250, 0, 3);
+			List<Action> plan = engine.planTurn(snapshot);
+			assertEquals(250, engine.getLastPlayouts());
+			assertTrue(engine.getLastElapsedNanos() > 0);
+			assertTrue(engine.getPlayoutsPerSecond() > 0);
+			assertEquals(plan, new MctsEngine(250, 0, 3).planTurn(snapshot));
+
+			MctsEngine timed = new MctsEngine(0, 50, 3);
+			long start = System.currentTimeMillis();
+			timed.planTurn(snapshot);
+			assertTrue(System.currentTimeMillis() - start < 1000);
+			assertTrue(timed.getLastPlayouts() > 0);
+			assertFalse(snapshot.isGameOver());
+		}
+	}
+
+/** Test that the AI finds a planned summon's card in its hand by id, so a summon it has to skip does not change the cards of later ones
+ *
+ */
+	@Test
+	public void summonsReplayedByCard() {
+		try (HeadlessGame game = new HeadlessGame()) {
+			GameState gameState = game.initalize();
+			Board board = gameState.board;
+			List<Action> planned = new ArrayList<>();
+			gameState.player2.setPlanner(snapshot -> {
+				gameState.player2.setMana(9); // enough for the cards behind the front one
+				SearchState state = new SearchState(GameSnapshot.of(gameState));
+				List<Action> legal = new ArrayList<>();
+				state.legalActions(legal);
+				for (Action action : legal) {
+					if (action.getType() == Action.SUMMON && action.getFrom() > 0) {
+						// the card at the front was planned on the AI's avatar, so it is skipped and this card is not moved up
+						int front = gameState.player2.getCardByHandPos(0).getId();
+						planned.add(Action.summon(0, front, board.cellIndex(gameState.player2.getCurrentTile())));
+						planned.add(Action.summon(action.getFrom() - 1, action.getCard(), action.getTo()));
+						break;
+					}
+				}
+				return planned;
+			});
+			game.endTurn();
+
+			assertEquals(2, planned.size());
+			Action summon = planned.get(1);
+			Unit unit = board.tileAt(summon.getTo()).getUnitFromTile();
+			assertTrue(unit != null);
+			assertEquals(summon.getCard(), unit.getId());
+			for (Card card : gameState.player2.hand) assertTrue(card.getId() != summon.getCard());
+			assertEquals(planned.get(0).getCard(), gameState.player2.getCardByHandPos(0).getId());
+		}
+	}
+
+}
@@ -0,0 +1,185 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import actors.OutboundBuffer;
+import actors.OutboundMetrics;
+import akka.Done;
+import akka.stream.QueueOfferResult;
+import akka.stream.javadsl.SourceQueueWithComplete;
+import commands.BasicCommands;
+import commands.DummyTell;
+import structures.basic.Tile;
+import structures.basic.Unit;
+import utils.BasicObjectBuilders;
+import utils.StaticConfFiles;
+
+public class OutboundBufferTest {
+
+	/**
+	 * Stands in for the websocket's stream, each offer stays pending until the test takes it
+	 */
+	static class TestQueue implements SourceQueueWithComplete<JsonNode> {
+		List<JsonNode> offered = new ArrayList<JsonNode>();
+		CompletableFuture<QueueOfferResult> lastOffer;
+		Throwable failure;
+		boolean completed;
+
+		public CompletionStage<QueueOfferResult> offer(JsonNode message) {
+			offered.add(message);
+			lastOffer = new CompletableFuture<QueueOfferResult>();
+			return lastOffer;
+		}
+		public void complete() { completed = true; }
+		public void fail(Throwable t) { failure = t; }
+		public CompletionStage<Done> watchCompletion() { return new CompletableFuture<Done>(); }
+
+		// the browser reads the message that was offered
+		void take() {
+			lastOffer.complete(QueueOfferResult.enqueued());
+		}
+	}
+
+	TestQueue queue;
+	OutboundBuffer buffer;
+	List<ObjectNode> messages;
+	Tile tile;
+	Unit unit;
+
+	@Before
+	public void setUp() {
+		messages = new ArrayList<ObjectNode>();
+		BasicCommands.altTell = new DummyTell() {
+			@Override
+			public void tell(ObjectNode message) {
+				messages.add(message);
+			}
+		};
+
+		queue = new TestQueue();
+		buffer = new OutboundBuffer(queue, 4);
+		tile = BasicObjectBuilders.loadTile(1, 2);
+		unit = BasicObjectBuilders.loadUnit(StaticConfFiles.humanAvatar, 40, Unit.class);
+	}
+
+/** Test that only one message is offered to the stream at a time and the rest wait in order
+ *
+ */
+	@Test
+	public void oneOfferAtATime() {
+		for (int i = 0; i < 3; i++) BasicCommands.deleteCard(null, i);
+		for (ObjectNode message : messages) buffer.add(message);
+
+		assertEquals(1, queue.offered.size());
+		assertEquals(2, buffer.getOccupancy());
+
+		queue.take();
+		queue.take();
+		assertEquals(3, queue.offered.size());
+		assertEquals(0, buffer.getOccupancy());
+		assertEquals(2, buffer.getPeakOccupancy());
+		for (int i = 0; i < 3; i++) assertEquals(i, queue.offered.get(i).get("position").asInt());
+	}
+
+/** Test that waiting drawTile and setUnitHealth messages are replaced by later ones for the same tile or unit
+ *
+ */
+	@Test
+	public void stateMessagesMerged() {
+		BasicCommands.deleteCard(null, 1); // offered straight away, the rest wait behind it
+		BasicCommands.drawTile(null, tile, 1);
+		BasicCommands.setUnitHealth(null, unit, 10);
+		BasicCommands.drawTile(null, tile, 2);
+		BasicCommands.setUnitHealth(null, unit, 8);
+		BasicCommands.drawTile(null, BasicObjectBuilders.loadTile(2, 2), 1);
+		for (ObjectNode message : messages) buffer.add(message);
+
+		assertEquals(3, buffer.getOccupancy());
+		assertEquals(2, buffer.getMerged());
+
+		queue.take();
+		queue.take();
+		queue.take();
+		assertEquals(2, queue.offered.get(1).get("mode").asInt());
+		assertEquals(8, queue.offered.get(2).get("health").asInt());
+		assertEquals(2, queue.offered.get(3).get("tile").get("tilex").asInt());
+	}
+
+/** Test that the stream is failed rather than a message dropped when the buffer is full
+ *
+ */
+	@Test
+	public void overflowFailsStream() {
+		for (int i = 0; i < 6; i++) BasicCommands.deleteCard(null, i);
+		for (ObjectNode message : messages) buffer.add(message);
+
+		assertTrue(queue.failure!=null);
+		assertTrue(buffer.isClosed());
+		assertEquals(0, buffer.getOccupancy());
+	}
+
+/** Test that completing waits for the messages still in the buffer
+ *
+ */
+	@Test
+	public void completeAfterPending() {
+		BasicCommands.deleteCard(null, 1);
+		BasicCommands.deleteCard(null, 2);
+		for (ObjectNode message : messages) buffer.add(message);
+
+		buffer.complete();
+		assertEquals(false, queue.completed);
+		queue.take();
+		assertEquals(false, queue.completed);
+		queue.take();
+		assertTrue(queue.completed);
+		assertEquals(2, buffer.getSent());
+	}
+
+/** Test that the buffers' figures add up in their metrics, and that a buffer leaves them once it is closed
+ *
+ */
+	@Test
+	public void metricsCoverOpenBuffers() {
+		OutboundMetrics metrics = new OutboundMetrics();
+		TestQueue first = new TestQueue();
+		TestQueue second = new TestQueue();
+		OutboundBuffer one = new OutboundBuffer(first, 4, metrics);
+		OutboundBuffer two = new OutboundBuffer(second, 2, metrics);
+		assertEquals(2, metrics.getOpenBuffers());
+		assertTrue(OutboundMetrics.shared().getOpenBuffers() >= 1); // the setUp buffer
+
+		for (int i = 0; i < 4; i++) BasicCommands.deleteCard(null, i);
+		for (int i = 0; i < 3; i++) one.add(messages.get(i));
+		two.add(messages.get(3));
+		assertEquals(2, metrics.getOccupancy());
+		assertEquals(2, metrics.getLargestOccupancy());
+
+		first.take();
+		assertEquals(1, metrics.getSent());
+		one.complete();
+		first.take();
+		first.take();
+		assertTrue(first.completed);
+		assertEquals(1, metrics.getOpenBuffers());
+		assertEquals(3, metrics.getSent());
+
+		for (int i = 0; i < 3; i++) two.add(messages.get(i));
+		assertTrue(second.failure!=null);
+		assertEquals(1, metrics.getOverflows());
+		assertEquals(0, metrics.getOpenBuffers());
+		assertEquals(0, metrics.getOccupancy());
+		assertEquals(2, metrics.getPeakOccupancy());
+	}
+
+}
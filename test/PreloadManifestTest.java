@@ -0,0 +1,65 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import utils.ImageListForPreLoad;
+import utils.PreloadManifest;
+
+public class PreloadManifestTest {
+
+/** Test that the manifest for both decks has the same images as the full preload list, common images first
+ *
+ */
+	@Test
+	public void gameManifestMatchesImageList() {
+		PreloadManifest manifest = PreloadManifest.forGame();
+
+		assertEquals(ImageListForPreLoad.getImageListForPreLoad(), new HashSet<String>(manifest.getImages()));
+
+		List<String> common = new ArrayList<String>(ImageListForPreLoad.getCommonImages());
+		assertEquals(common, manifest.getImages().subList(0, common.size()));
+	}
+
+/** Test that the encoded manifest is the list of images and its hash is a SHA-256 that only changes with the list
+ *
+ */
+	@Test
+	public void encodedAndHashed() throws Exception {
+		PreloadManifest manifest = PreloadManifest.forGame();
+
+		JsonNode decoded = new ObjectMapper().readTree(manifest.getEncoded());
+		assertEquals(manifest.getImages().size(), decoded.size());
+		assertEquals(manifest.getImages().get(0), decoded.get(0).asText());
+		assertEquals(new String(manifest.getEncoded(), "UTF-8"), manifest.getRawValue().rawValue());
+
+		assertEquals(64, manifest.getHash().length());
+		assertSame(manifest, PreloadManifest.forDecks(1, 2));
+
+		PreloadManifest.clear();
+		assertEquals(manifest.getHash(), PreloadManifest.forGame().getHash());
+	}
+
+/** Test that a single deck's manifest only has the common images and that deck's
+ *
+ */
+	@Test
+	public void perDeckSubset() {
+		PreloadManifest deck1 = PreloadManifest.forDecks(1);
+		PreloadManifest both = PreloadManifest.forGame();
+
+		assertTrue(deck1.getImages().size() < both.getImages().size());
+		assertTrue(both.getImages().containsAll(deck1.getImages()));
+		assertNotEquals(deck1.getHash(), both.getHash());
+	}
+
+}
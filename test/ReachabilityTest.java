@@ -0,0 +1,115 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import actions.PerformAction;
+import commands.BasicCommands;
+import commands.RecordingTell;
+import structures.GameState;
+import structures.basic.Board;
+import structures.basic.Reachability;
+import structures.basic.Tile;
+import structures.basic.Unit;
+import utils.BasicObjectBuilders;
+import utils.HeadlessGame;
+import utils.StaticConfFiles;
+
+public class ReachabilityTest {
+
+	Board board;
+
+	@Before
+	public void setUp() {
+		BasicCommands.altTell = new RecordingTell(false);
+		board = new Board();
+	}
+
+	Unit placeUnit(int id, int player, int x, int y) {
+		Unit unit = BasicObjectBuilders.loadUnit(StaticConfFiles.humanAvatar, id, Unit.class);
+		unit.setIsPlayer(player);
+		board.addUnitToBoard(x, y, unit);
+		return unit;
+	}
+
+/** Test that a unit cannot move through an enemy unit, but can move through a friendly one or round a corner
+ *
+ */
+	@Test
+	public void enemyUnitsBlockPaths() {
+		placeUnit(1, 1, 4, 2);
+		placeUnit(2, 2, 5, 2); // enemy on the right
+		placeUnit(3, 1, 4, 1); // friend above
+		placeUnit(4, 2, 3, 2); // enemy on the left
+		placeUnit(5, 2, 3, 3); // enemy below the left one
+
+		Reachability reachability = board.getReachability();
+		int cell = board.cellIndex(4, 2);
+		assertFalse(reachability.canReach(cell, board.cellIndex(6, 2))); // through the enemy on the right
+		assertTrue(reachability.canReach(cell, board.cellIndex(4, 0))); // through the friend above
+		assertTrue(reachability.canReach(cell, board.cellIndex(5, 1))); // round the friend above
+		assertFalse(reachability.canReach(cell, board.cellIndex(3, 3))); // occupied
+		assertTrue(reachability.canReach(cell, board.cellIndex(5, 3))); // round the tile below
+		assertFalse(reachability.canReach(cell, board.cellIndex(2, 2))); // through the enemy on the left
+		assertFalse(reachability.canReach(cell, board.cellIndex(4, 2))); // not its own tile
+
+		// the enemy on (6,2) cannot be reached, the one on (2,2) can be attacked from (3,1)
+		placeUnit(6, 2, 6, 2);
+		placeUnit(7, 2, 2, 2);
+		reachability = board.getReachability();
+		assertTrue(reachability.canAttack(cell, board.cellIndex(5, 2)));
+		assertTrue(reachability.canAttack(cell, board.cellIndex(6, 2))); // from (5,1) or (5,3)
+		assertTrue(reachability.canAttack(cell, board.cellIndex(2, 2)));
+		assertEquals(board.cellIndex(3, 1), reachability.getMoveToAttack(cell, board.cellIndex(2, 2)));
+		assertFalse(reachability.canAttack(cell, board.cellIndex(4, 1))); // a friend
+	}
+
+/** Test that the reachability is worked out once and kept until a unit is put on or taken off a tile
+ *
+ */
+	@Test
+	public void cachedUntilBoardChanges() {
+		Unit unit = placeUnit(1, 1, 4, 2);
+		Reachability reachability = board.getReachability();
+		board.getMoveAndAttackTiles(board.returnTile(4, 2));
+		board.isReachable(board.returnTile(4, 2), board.returnTile(4, 4));
+		assertSame(reachability, board.getReachability());
+
+		placeUnit(2, 2, 4, 3);
+		assertNotSame(reachability, board.getReachability());
+		assertFalse(board.isReachable(board.returnTile(4, 2), board.returnTile(4, 4)));
+
+		reachability = board.getReachability();
+		board.returnTile(4, 2).setUnitToTile(null);
+		board.addUnitToBoard(4, 1, unit);
+		assertNotSame(reachability, board.getReachability());
+		assertEquals(0, board.getReachability().getReachableCells(board.cellIndex(4, 2)).length);
+		assertTrue(board.getReachability().canAttack(board.cellIndex(4, 1), board.cellIndex(4, 3)));
+	}
+
+/** Test that moveUnit refuses a move through an enemy unit and makes one round it
+ *
+ */
+	@Test
+	public void moveUnitChecksPath() {
+		try (HeadlessGame game = new HeadlessGame()) {
+			game.initalize();
+			GameState gameState = game.getGameState();
+			board = gameState.board;
+			Tile avatarTile = board.returnTile(1, 2);
+			Unit avatar = avatarTile.getUnitFromTile();
+			placeUnit(30, 2, 2, 2);
+
+			PerformAction.moveUnit(0, null, avatarTile, board.returnTile(3, 2), gameState);
+			assertSame(avatarTile, board.getTileOfUnit(avatar.getId()));
+
+			PerformAction.moveUnit(0, null, avatarTile, board.returnTile(2, 3), gameState);
+			assertSame(board.returnTile(2, 3), board.getTileOfUnit(avatar.getId()));
+		}
+	}
+
+}
@@ -0,0 +1,104 @@
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import actions.PerformAction;
+import commands.BasicCommands;
+import commands.CheckMessageIsNotNullOnTell;
+import structures.GameState;
+import structures.basic.Board;
+import structures.basic.Player;
+import structures.basic.Tile;
+import structures.basic.Unit;
+import utils.AppConstants;
+import utils.BasicObjectBuilders;
+import utils.HeadlessGame;
+import utils.StaticConfFiles;
+
+public class SummonZoneTest {
+
+	Board board;
+
+	@Before
+	public void setUp() {
+		BasicCommands.altTell = new CheckMessageIsNotNullOnTell();
+		board = new Board();
+	}
+
+	Unit newUnit(int id, int player) {
+		Unit unit = BasicObjectBuilders.loadUnit(StaticConfFiles.humanAvatar, id, Unit.class);
+		unit.setIsPlayer(player);
+		return unit;
+	}
+
+	// the player's summon zone worked out from scratch, the way getSummonableTiles used to
+	long zoneByLoop(int player) {
+		long zone = 0;
+		for (Tile tile : board.allTiles()) {
+			Unit unit = tile.getUnitFromTile();
+			if (unit==null || unit.getIsPlayer()!=player) continue;
+			for (Tile next : board.summonableTiles(tile)) zone |= 1L << board.cellIndex(next);
+		}
+		return zone;
+	}
+
+/** Test that the summon zones kept by the board match working them out again, through random summons, moves and deaths
+ *
+ */
+	@Test
+	public void zoneFollowsRandomChanges() {
+		Random random = new Random(12);
+		List<Unit> units = new ArrayList<Unit>();
+		for (int id = 0; id < 12; id++) units.add(newUnit(id, id%2+1));
+
+		for (int step = 0; step < 500; step++) {
+			Unit unit = units.get(random.nextInt(units.size()));
+			Tile from = board.getTileOfUnit(unit.getId());
+			Tile to = board.tileAt(random.nextInt(AppConstants.boardWidth*AppConstants.boardHeight));
+
+			if (from!=null && random.nextInt(4)==0) {
+				from.setUnitToTile(null); // dies
+			} else if (to.getUnitFromTile()==null) {
+				if (from!=null) from.setUnitToTile(null); // moves, or is summoned if it was not on the board
+				board.addUnitToBoard(to.getTilex(), to.getTiley(), unit);
+			}
+
+			assertEquals(zoneByLoop(1), board.getSummonZone(1));
+			assertEquals(zoneByLoop(2), board.getSummonZone(2));
+		}
+	}
+
+/** Test that getSummonableTiles no longer lists a tile more than once and agrees with isInSummonZone
+ *
+ */
+	@Test
+	public void summonableTilesWithoutDuplicates() {
+		try (HeadlessGame game = new HeadlessGame()) {
+			game.initalize();
+			GameState gameState = game.getGameState();
+			Player player = gameState.player1;
+			board = gameState.board;
+
+			// next to the avatar on (1,2), so their zones overlap
+			board.addUnitToBoard(2, 2, newUnit(1, 1));
+			board.addUnitToBoard(2, 3, newUnit(2, 1));
+
+			ArrayList<Tile> tiles = PerformAction.getSummonableTiles(null, gameState, player);
+			assertEquals(new HashSet<Tile>(tiles).size(), tiles.size());
+			assertEquals(Long.bitCount(zoneByLoop(1)), tiles.size());
+			assertEquals(tiles, gameState.SummonTileList);
+
+			for (Tile tile : board.allTiles()) {
+				assertEquals(tiles.contains(tile), board.isInSummonZone(player, tile));
+				assertEquals(tiles.contains(tile) && tile.getUnitFromTile()==null, (board.getSummonMask(player) & (1L << board.cellIndex(tile))) != 0);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,132 @@
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import commands.BasicCommands;
+import commands.DummyTell;
+import structures.basic.Board;
+import structures.basic.Tile;
+import utils.AppConstants;
+
+public class TileRenderStateTest {
+
+	int drawTileMessages;
+	Board board;
+
+	@Before
+	public void setUp() {
+		drawTileMessages = 0;
+
+		// count the drawTile messages that reach the front-end
+		BasicCommands.altTell = new DummyTell() {
+			@Override
+			public void tell(ObjectNode message) {
+				if (message.get("messagetype").asText().equals("drawTile")) drawTileMessages++;
+			}
+		};
+
+		board = new Board(null);
+	}
+
+/** Test that creating the board draws every tile once
+ *
+ */
+	@Test
+	public void boardDrawnOnce() {
+		int tileCount = AppConstants.boardWidth*AppConstants.boardHeight;
+		assertEquals(tileCount, drawTileMessages);
+		assertEquals(tileCount, board.getDrawTileSent());
+		assertEquals(0, board.getRenderedMode(0, 0));
+	}
+
+/** Test that clearing a board with nothing highlighted sends nothing
+ *
+ */
+	@Test
+	public void clearingUnhighlightedBoardSuppressed() {
+		drawTileMessages = 0;
+		board.clearTileHighlighting(null, board.allTiles());
+
+		assertEquals(0, drawTileMessages);
+		assertEquals(AppConstants.boardWidth*AppConstants.boardHeight, board.getDrawTileSuppressed());
+	}
+
+/** Test that only the tiles whose mode changes are redrawn
+ *
+ */
+	@Test
+	public void onlyChangedTilesRedrawn() {
+		ArrayList<Tile> highlighted = new ArrayList<Tile>();
+		highlighted.add(board.returnTile(2, 2));
+		highlighted.add(board.returnTile(3, 2));
+
+		drawTileMessages = 0;
+		board.highlightTilesWhite(null, highlighted);
+		assertEquals(2, drawTileMessages);
+		assertEquals(1, board.getRenderedMode(2, 2));
+
+		// highlighting them again changes nothing
+		board.highlightTilesWhite(null, highlighted);
+		assertEquals(2, drawTileMessages);
+
+		// red is a different mode so it is sent
+		board.highlightTilesRed(null, highlighted);
+		assertEquals(4, drawTileMessages);
+
+		// clearing the whole board only redraws the two highlighted tiles
+		board.clearTileHighlighting(null, board.allTiles());
+		assertEquals(6, drawTileMessages);
+		assertEquals(0, board.getRenderedMode(3, 2));
+
+		// after a reset every tile is drawn again
+		board.resetRenderedModes();
+		board.clearTileHighlighting(null, board.allTiles());
+		assertEquals(6+AppConstants.boardWidth*AppConstants.boardHeight, drawTileMessages);
+	}
+
+/** Test that setting the tiles again draws every new tile, whatever was drawn for the old ones
+ *
+ */
+	@Test
+	public void setTilesRedrawsEveryTile() {
+		ArrayList<Tile> highlighted = new ArrayList<Tile>();
+		highlighted.add(board.returnTile(2, 2));
+		board.highlightTilesRed(null, highlighted);
+
+		drawTileMessages = 0;
+		board.setTiles(null);
+		assertEquals(AppConstants.boardWidth*AppConstants.boardHeight, drawTileMessages);
+		assertEquals(0, board.getRenderedMode(2, 2));
+	}
+
+/** Test that every drawTile is counted as sent or skipped when several threads draw at once
+ *
+ */
+	@Test
+	public void concurrentDrawsCounted() throws InterruptedException {
+		int tileCount = AppConstants.boardWidth*AppConstants.boardHeight;
+		long before = board.getDrawTileSent() + board.getDrawTileSuppressed();
+		int threads = 4, rounds = 10;
+		Thread[] drawing = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			int mode = 1 + t % 2;
+			drawing[t] = new Thread(() -> {
+				for (int i = 0; i < rounds; i++) {
+					if (mode == 1) board.highlightTilesWhite(null, board.allTiles());
+					else board.highlightTilesRed(null, board.allTiles());
+					board.clearTileHighlighting(null, board.allTiles());
+				}
+			});
+			drawing[t].start();
+		}
+		for (Thread thread : drawing) thread.join();
+
+		assertEquals(before + (long) threads*rounds*2*tileCount, board.getDrawTileSent() + board.getDrawTileSuppressed());
+	}
+
+}
@@ -0,0 +1,173 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.junit.After;
+import org.junit.Test;
+
+import ai.Action;
+import ai.AlphaBetaEngine;
+import ai.MctsEngine;
+import ai.SearchState;
+import ai.TurnPlanner;
+import structures.GameSnapshot;
+import structures.GameState;
+import structures.basic.ComputerPlayer;
+import utils.AppConstants;
+import utils.HeadlessGame;
+
+public class TurnBudgetTest {
+
+	@After
+	public void tearDown() {
+		AppConstants.aiDifficulty = "normal";
+	}
+
+	void assertLegal(GameSnapshot snapshot, List<Action> plan) {
+		SearchState state = new SearchState(snapshot);
+		List<Action> legal = new ArrayList<>();
+		for (Action action : plan) {
+			legal.clear();
+			state.legalActions(legal);
+			assertTrue(action + " is not legal", legal.contains(action));
+			state.apply(action);
+		}
+	}
+
+	// the test clock moves on a millisecond every time it is read, so the searches time out the same way on any machine
+	static final long TICK_NANOS = 1000000;
+	// how many reads past its time a search may make: one for each task that has to see the time is up, and the planner's own
+	static final long READS_PAST_TIME = 5;
+
+	static LongSupplier steppingClock() {
+		AtomicLong now = new AtomicLong();
+		return () -> now.addAndGet(TICK_NANOS);
+	}
+
+	// plans with the time given on the test clock and checks the search stopped in time with a legal plan
+	void assertPlansInTime(TurnPlanner planner, LongSupplier lastElapsedNanos, GameSnapshot snapshot, long millis) {
+		String name = planner.getClass().getSimpleName();
+		List<Action> plan = planner.planTurn(snapshot, millis);
+		long searched = lastElapsedNanos.getAsLong() / TICK_NANOS;
+		assertTrue(name + " searched for " + searched + "ms of " + millis + "ms", searched <= millis + READS_PAST_TIME);
+		assertLegal(snapshot, plan);
+	}
+
+	void assertPlansInTime(MctsEngine engine, GameSnapshot snapshot, long millis) {
+		engine.setClock(steppingClock());
+		assertPlansInTime(engine, engine::getLastElapsedNanos, snapshot, millis);
+		// one playout between each look at the clock
+		assertEquals(Math.max(1, millis), engine.getLastPlayouts());
+	}
+
+	void assertPlansInTime(AlphaBetaEngine engine, GameSnapshot snapshot, long millis) {
+		engine.setClock(steppingClock());
+		assertPlansInTime(engine, engine::getLastElapsedNanos, snapshot, millis);
+	}
+
+	// plans with no limit on another thread, interrupts it, and checks it stops with a legal plan
+	void assertStopsWhenInterrupted(TurnPlanner planner, GameSnapshot snapshot) throws InterruptedException {
+		List<List<Action>> plans = new ArrayList<>();
+		Thread thread = new Thread(() -> plans.add(planner.planTurn(snapshot)));
+		thread.setDaemon(true); // so a search that never stops does not keep the tests running
+		thread.start();
+		Thread.sleep(50);
+		thread.interrupt();
+		thread.join(10000);
+		String name = planner.getClass().getSimpleName();
+		assertFalse(name + " is still planning after being interrupted", thread.isAlive());
+		assertEquals(1, plans.size());
+		assertLegal(snapshot, plans.get(0));
+	}
+
+/** Test that the searches stop when their time is up with a legal plan, whatever their own limits
+ *
+ */
+	@Test
+	public void searchesKeepToTime() {
+		try (HeadlessGame game = new HeadlessGame()) {
+			GameState gameState = game.initalize();
+			HeadlessGameTest.walkToAIAvatar(game);
+			game.endTurn();
+			GameSnapshot snapshot = GameSnapshot.of(gameState);
+
+			for (long millis : new long[] {20, 100}) {
+				assertPlansInTime(new MctsEngine(100000000, 0, 1), snapshot, millis);
+				assertPlansInTime(new AlphaBetaEngine(50, 0), snapshot, millis);
+				assertPlansInTime(new AlphaBetaEngine(50, 0, 3), snapshot, millis);
+			}
+		}
+	}
+
+/** Test that with no time at all the searches still give a legal plan straight away
+ *
+ */
+	@Test
+	public void noTimeStillLegal() {
+		try (HeadlessGame game = new HeadlessGame()) {
+			GameSnapshot snapshot = GameSnapshot.of(game.initalize());
+			assertPlansInTime(new MctsEngine(100000000, 0, 1), snapshot, 0);
+			AlphaBetaEngine alphaBeta = new AlphaBetaEngine(50, 0);
+			assertPlansInTime(alphaBeta, snapshot, 0);
+			assertEquals(1, alphaBeta.getLastDepth());
+		}
+	}
+
+/** Test that a search with no limits stops when its thread is interrupted, as a cancelled AI turn is
+ *
+ */
+	@Test
+	public void searchesStopWhenInterrupted() throws InterruptedException {
+		try (HeadlessGame game = new HeadlessGame()) {
+			GameState gameState = game.initalize();
+			HeadlessGameTest.walkToAIAvatar(game);
+			game.endTurn();
+			GameSnapshot snapshot = GameSnapshot.of(gameState);
+
+			assertStopsWhenInterrupted(new MctsEngine(Integer.MAX_VALUE, 0, 1), snapshot);
+			assertStopsWhenInterrupted(new AlphaBetaEngine(50, 0), snapshot);
+			assertStopsWhenInterrupted(new AlphaBetaEngine(50, 0, 3), snapshot);
+		}
+	}
+
+/** Test that the AI gives its planner the time of the difficulty it is set to
+ *
+ */
+	@Test
+	public void difficultySetsTurnTime() {
+		AppConstants.aiDifficulty = "easy";
+		assertEquals(AppConstants.aiEasyTurnMillis, ComputerPlayer.getTurnBudget());
+		AppConstants.aiDifficulty = "hard";
+		assertEquals(AppConstants.aiHardTurnMillis, ComputerPlayer.getTurnBudget());
+
+		try (HeadlessGame game = new HeadlessGame()) {
+			GameState gameState = game.initalize();
+			List<Long> given = new ArrayList<>();
+			gameState.player2.setPlanner(new TurnPlanner() {
+				@Override
+				public List<Action> planTurn(GameSnapshot snapshot) {
+					return new ArrayList<>();
+				}
+
+				@Override
+				public List<Action> planTurn(GameSnapshot snapshot, long millis) {
+					given.add(millis);
+					return planTurn(snapshot);
+				}
+			});
+			game.endTurn();
+			AppConstants.aiDifficulty = "easy";
+			game.endTurn();
+
+			assertEquals(2, given.size());
+			assertEquals(AppConstants.aiHardTurnMillis, (long) given.get(0));
+			assertEquals(AppConstants.aiEasyTurnMillis, (long) given.get(1));
+		}
+	}
+
+}
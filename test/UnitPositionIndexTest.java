@@ -0,0 +1,99 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import commands.BasicCommands;
+import structures.GameState;
+import structures.basic.Board;
+import structures.basic.Tile;
+import structures.basic.Unit;
+import utils.AppConstants;
+import utils.HeadlessGame;
+
+public class UnitPositionIndexTest {
+
+	HeadlessGame game;
+	GameState gameState;
+	Board board;
+
+	@Before
+	public void setUp() {
+		BasicCommands.altTell = null;
+		game = new HeadlessGame();
+		game.initalize();
+		gameState = game.getGameState();
+		board = gameState.board;
+	}
+
+	@After
+	public void tearDown() {
+		game.close();
+	}
+
+	// checks every unit on the board is found on its tile, and the given units that are not on the board are not found
+	void assertIndexMatchesBoard() {
+		for (int x = 0; x < AppConstants.boardWidth; x++) {
+			for (int y = 0; y < AppConstants.boardHeight; y++) {
+				Unit unit = board.returnTile(x, y).getUnitFromTile();
+				if (unit!=null) assertSame(board.returnTile(x, y), board.getTileOfUnit(unit.getId()));
+			}
+		}
+		for (Unit unit : gameState.summonedUnits) {
+			Tile tile = board.getTileOfUnit(unit.getId());
+			if (tile!=null) assertSame(unit, tile.getUnitFromTile());
+		}
+	}
+
+/** Test that both avatars are found whichever player's lookup is used
+ *
+ */
+	@Test
+	public void avatarsFoundForEitherOwner() {
+		Unit avatar = board.returnTile(1, 2).getUnitFromTile();
+		Unit aiAvatar = board.returnTile(7, 2).getUnitFromTile();
+
+		assertSame(board.returnTile(1, 2), avatar.getTileFromUnit(40, gameState, null));
+		assertSame(board.returnTile(1, 2), avatar.getTileFromUnitP2(40, gameState, null));
+		assertSame(board.returnTile(7, 2), aiAvatar.getTileFromUnit(41, gameState, null));
+		assertNull(board.getTileOfUnit(5));
+	}
+
+/** Test that the index follows a unit when it is moved, in either order, and forgets it when it is removed
+ *
+ */
+	@Test
+	public void indexFollowsMovesAndDeaths() {
+		Unit unit = gameState.player1.getPlayerUnits().get(0);
+		board.addUnitToBoard(3, 2, unit);
+		assertSame(board.returnTile(3, 2), board.getTileOfUnit(unit.getId()));
+
+		// the way moveUnit does it, off the start tile then onto the end tile
+		board.returnTile(3, 2).setUnitToTile(null);
+		board.addUnitToBoard(4, 2, unit);
+		assertSame(board.returnTile(4, 2), board.getTileOfUnit(unit.getId()));
+
+		// onto the end tile first, then off the start tile
+		board.addUnitToBoard(4, 3, unit);
+		board.returnTile(4, 2).setUnitToTile(null);
+		assertSame(board.returnTile(4, 3), board.getTileOfUnit(unit.getId()));
+
+		// killed
+		board.returnTile(4, 3).setUnitToTile(null);
+		assertNull(board.getTileOfUnit(unit.getId()));
+	}
+
+/** Test that the index still matches the board after a whole game
+ *
+ */
+	@Test
+	public void indexMatchesAfterGame() {
+		game.playUntilGameOver(200, HeadlessGameTest::walkToAIAvatar);
+		assertEquals(true, gameState.isGameOver);
+		assertIndexMatchesBoard();
+	}
+
+}
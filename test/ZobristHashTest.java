@@ -0,0 +1,109 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+
+import commands.BasicCommands;
+import commands.CommandEncoder;
+import commands.RecordingTell;
+import structures.GameSnapshot;
+import structures.GameState;
+import structures.basic.Board;
+import structures.basic.Player;
+import structures.basic.Tile;
+import structures.basic.Unit;
+import utils.BasicObjectBuilders;
+import utils.HeadlessGame;
+import utils.StaticConfFiles;
+
+public class ZobristHashTest {
+
+	void assertHashUpToDate(GameState gameState) {
+		assertEquals(gameState.computeZobristHash(), gameState.getZobristHash());
+		assertEquals(gameState.getZobristHash(), GameSnapshot.of(gameState).getZobristHash());
+	}
+
+/** Test that the hash kept up to date through a whole game always matches working it out again
+ *
+ */
+	@Test
+	public void hashFollowsWholeGame() {
+		try (HeadlessGame game = new HeadlessGame()) {
+			GameState gameState = game.initalize();
+			assertHashUpToDate(gameState);
+			game.playUntilGameOver(200, g -> {
+				assertHashUpToDate(g.getGameState());
+				HeadlessGameTest.walkToAIAvatar(g);
+				assertHashUpToDate(g.getGameState());
+			});
+			assertHashUpToDate(gameState);
+		}
+	}
+
+/** Test that damaging, moving and removing a unit change the hash, and undoing them gives the same hash back
+ *
+ */
+	@Test
+	public void unitChangesUpdateHash() {
+		BasicCommands.altTell = new RecordingTell(false);
+		Board board = new Board();
+		assertEquals(0, board.getHash());
+
+		Unit unit = BasicObjectBuilders.loadUnit(StaticConfFiles.humanAvatar, 1, Unit.class);
+		unit.setIsPlayer(1);
+		unit.setHealth(5);
+		unit.setAttack(2);
+		board.addUnitToBoard(3, 2, unit);
+		long placed = board.getHash();
+		assertNotEquals(0, placed);
+
+		unit.setHealth(3);
+		assertNotEquals(placed, board.getHash());
+		assertEquals(board.computeHash(), board.getHash());
+		unit.setHealth(5);
+		assertEquals(placed, board.getHash());
+
+		Tile from = board.returnTile(3, 2);
+		from.setUnitToTile(null);
+		board.addUnitToBoard(4, 2, unit);
+		assertNotEquals(placed, board.getHash());
+		assertEquals(board.computeHash(), board.getHash());
+		board.returnTile(4, 2).setUnitToTile(null);
+		assertEquals(0, board.getHash());
+
+		unit.setHealth(1); // no longer on the board
+		assertEquals(0, board.getHash());
+	}
+
+/** Test that drawing and playing cards and changing the mana update the player's hash
+ *
+ */
+	@Test
+	public void handAndManaUpdateHash() {
+		try (HeadlessGame game = new HeadlessGame()) {
+			GameState gameState = game.initalize();
+			Player player = gameState.player1;
+			long start = gameState.getZobristHash();
+
+			player.setMana(player.getMana()+3);
+			assertNotEquals(start, gameState.getZobristHash());
+			player.setMana(player.getMana()-3);
+			assertEquals(start, gameState.getZobristHash());
+
+			player.drawAnotherCard(null, 1);
+			assertNotEquals(start, gameState.getZobristHash());
+			assertEquals(player.computeHash(), player.getHash());
+
+			gameState.handPosClicked = player.getCardInHand();
+			player.deleteCardInHand(null, 1, gameState);
+			assertEquals(start, gameState.getZobristHash());
+
+			gameState.player1Turn = false;
+			assertNotEquals(start, gameState.getZobristHash());
+			assertHashUpToDate(gameState);
+			assertFalse(CommandEncoder.toJson(player).has("hash")); // not sent with the player's health and mana
+		}
+	}
+
+}